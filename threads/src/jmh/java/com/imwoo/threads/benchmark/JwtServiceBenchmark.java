@@ -0,0 +1,58 @@
+package com.imwoo.threads.benchmark;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.imwoo.threads.cache.VerifiedTokenCache;
+import com.imwoo.threads.config.properties.JwtProperties;
+import com.imwoo.threads.model.entity.UserEntity;
+import com.imwoo.threads.service.JwtService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * JWT 발급, 검증 비용
+ * verifiedTokenCacheMaxSize 0 : 매 요청 파싱 + HMAC 검증 / 1000 : 검증 토큰 캐시 hit
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+	@Param({"0", "1000"})
+	private long verifiedTokenCacheMaxSize;
+
+	private JwtService jwtService;
+	private UserEntity userEntity;
+	private String accessToken;
+
+	@Setup
+	public void setUp() {
+		var jwtProperties = new JwtProperties(verifiedTokenCacheMaxSize, JwtProperties.PrincipalMode.DATABASE);
+		var meterRegistry = new SimpleMeterRegistry();
+		jwtService = new JwtService(new VerifiedTokenCache(jwtProperties, meterRegistry), jwtProperties,
+			meterRegistry);
+		userEntity = new UserEntity(1L, "benchmark", "password", null, null, ZonedDateTime.now(),
+			ZonedDateTime.now(), null);
+		accessToken = jwtService.generateAccessToken(userEntity);
+	}
+
+	@Benchmark
+	public String generateAccessToken() {
+		return jwtService.generateAccessToken(userEntity);
+	}
+
+	@Benchmark
+	public String getUsername() {
+		return jwtService.getUsername(accessToken);
+	}
+}
@@ -0,0 +1,178 @@
+package com.imwoo.threads.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.imwoo.threads.model.entity.id.SnowflakeIdGenerator;
+
+/**
+ * Post insert 식별자 전략별 비용 ( 일괄 작성 1건당 )
+ * Hibernate 가 각 전략에서 실행하는 JDBC 호출을 그대로 재현한다.
+ * - identity : insert 마다 생성된 키를 돌려받아야 하므로 JDBC batch 없이 건별 실행
+ * - sequence : pooled sequence ( allocationSize 50 ) 로 nextval 50건당 1회, insert 는 batch_size 단위 batch
+ * - snowflake : 현재 PostEntity 의 @SnowflakeId, DB 왕복 없이 애플리케이션에서 발급하고 insert 는 batch_size 단위 batch
+ * 트랜잭션 하나에 posts 건을 insert 하고 커밋한다. ( POST /api/v1/posts/batch 의 saveAll 과 같은 JDBC 호출 )
+ * Docker 로 PostgreSQL 을 띄우므로 Docker 가 필요하다. ( ./gradlew jmh -PjmhIncludes=PostInsertStrategyBenchmark )
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PostInsertStrategyBenchmark {
+
+	private static final int ALLOCATION_SIZE = 50;
+	private static final int BATCH_SIZE = 50;
+	private static final String BODY = "benchmark body ".repeat(10);
+
+	@Param({"50", "500"})
+	private int posts;
+
+	// 노드 0 고정 ( application-dev.yml 의 threads.id.node_id 와 같음 )
+	private final SnowflakeIdGenerator snowflakeIdGenerator =
+		new SnowflakeIdGenerator(0, SnowflakeIdGenerator.DEFAULT_EPOCH, 1000);
+
+	private PostgreSQLContainer<?> postgres;
+	private Connection connection;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+		postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+		postgres.start();
+		// application.yml 과 같이 batch insert 를 multi-row insert 로 재작성
+		connection = DriverManager.getConnection(postgres.getJdbcUrl() + "&reWriteBatchedInserts=true",
+			postgres.getUsername(), postgres.getPassword());
+		connection.setAutoCommit(false);
+		try (var statement = connection.createStatement()) {
+			statement.execute("""
+				CREATE TABLE post_identity (
+					postId bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+					body text NOT NULL,
+					userId bigint NOT NULL,
+					createdDateTime timestamptz NOT NULL
+				)""");
+			statement.execute("""
+				CREATE TABLE post_sequence (
+					postId bigint PRIMARY KEY,
+					body text NOT NULL,
+					userId bigint NOT NULL,
+					createdDateTime timestamptz NOT NULL
+				)""");
+			statement.execute("CREATE SEQUENCE post_sequence_seq INCREMENT BY " + ALLOCATION_SIZE);
+		}
+		connection.commit();
+	}
+
+	@TearDown(Level.Iteration)
+	public void truncate() throws SQLException {
+		try (var statement = connection.createStatement()) {
+			statement.execute("TRUNCATE post_identity, post_sequence, post_snowflake");
+		}
+		connection.commit();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		connection.close();
+		postgres.stop();
+	}
+
+	@Benchmark
+	public long identity() throws SQLException {
+		var createdDateTime = OffsetDateTime.now();
+		var lastId = 0L;
+		try (var insert = connection.prepareStatement(
+			"INSERT INTO post_identity (body, userId, createdDateTime) VALUES (?, ?, ?)",
+			Statement.RETURN_GENERATED_KEYS)) {
+			for (var i = 0; i < posts; i++) {
+				insert.setString(1, BODY);
+				insert.setLong(2, 1L);
+				insert.setObject(3, createdDateTime);
+				insert.executeUpdate();
+				try (var keys = insert.getGeneratedKeys()) {
+					keys.next();
+					lastId = keys.getLong(1);
+				}
+			}
+		}
+		connection.commit();
+		return lastId;
+	}
+
+	@Benchmark
+	public long pooledSequenceBatch() throws SQLException {
+		var createdDateTime = OffsetDateTime.now();
+		var nextId = 0L;
+		var allocated = 0;
+		try (var nextval = connection.prepareStatement("SELECT nextval('post_sequence_seq')");
+			 var insert = connection.prepareStatement(
+				 "INSERT INTO post_sequence (postId, body, userId, createdDateTime) VALUES (?, ?, ?, ?)")) {
+			for (var i = 0; i < posts; i++) {
+				// nextval 1회로 allocationSize 개 식별자를 메모리에서 발급
+				if (allocated == 0) {
+					try (var resultSet = nextval.executeQuery()) {
+						resultSet.next();
+						nextId = resultSet.getLong(1);
+					}
+					allocated = ALLOCATION_SIZE;
+				}
+				insert.setLong(1, nextId++);
+				insert.setString(2, BODY);
+				insert.setLong(3, 1L);
+				insert.setObject(4, createdDateTime);
+				insert.addBatch();
+				allocated--;
+
+				if ((i + 1) % BATCH_SIZE == 0) {
+					insert.executeBatch();
+				}
+			}
+			insert.executeBatch();
+		}
+		connection.commit();
+		return nextId;
+	}
+
+	@Benchmark
+	public long snowflakeBatch() throws SQLException {
+		var createdDateTime = OffsetDateTime.now();
+		var lastId = 0L;
+		try (var insert = connection.prepareStatement(
+			"INSERT INTO post_snowflake (postId, body, userId, createdDateTime) VALUES (?, ?, ?, ?)")) {
+			for (var i = 0; i < posts; i++) {
+				// 식별자 발급에 DB 왕복 없음
+				lastId = snowflakeIdGenerator.nextId();
+				insert.setLong(1, lastId);
+				insert.setString(2, BODY);
+				insert.setLong(3, 1L);
+				insert.setObject(4, createdDateTime);
+				insert.addBatch();
+
+				if ((i + 1) % BATCH_SIZE == 0) {
+					insert.executeBatch();
+				}
+			}
+			insert.executeBatch();
+		}
+		connection.commit();
+		return lastId;
+	}
+}
@@ -0,0 +1,52 @@
+package com.imwoo.threads.benchmark;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.imwoo.threads.model.post.response.PostResponse;
+import com.imwoo.threads.model.user.User;
+
+/**
+ * List<PostResponse> Jackson 직렬화 비용 ( 페이지 크기별 )
+ * Spring Boot 와 동일한 Jackson2ObjectMapperBuilder 기본 설정 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostResponseSerializationBenchmark {
+
+	@Param({"20", "100"})
+	private int size;
+
+	private ObjectMapper objectMapper;
+	private List<PostResponse> posts;
+
+	@Setup
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		var now = ZonedDateTime.now();
+		var user = new User(1L, "benchmark", "https://avatar.iran.liara.run/public/1", "description", now, now);
+		posts = LongStream.rangeClosed(1, size)
+			.mapToObj(postId -> new PostResponse(postId, "benchmark body ".repeat(20), user, now, now, null))
+			.toList();
+	}
+
+	@Benchmark
+	public byte[] writePosts() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(posts);
+	}
+}
@@ -0,0 +1,50 @@
+package com.imwoo.threads.benchmark;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.imwoo.threads.model.entity.PostEntity;
+import com.imwoo.threads.model.entity.UserEntity;
+import com.imwoo.threads.model.post.response.PostResponse;
+import com.imwoo.threads.model.user.User;
+
+/**
+ * 엔티티 -> 응답 레코드 변환 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseMappingBenchmark {
+
+	private UserEntity userEntity;
+	private PostEntity postEntity;
+
+	@Setup
+	public void setUp() {
+		var now = ZonedDateTime.now();
+		userEntity = new UserEntity(1L, "benchmark", "password", "https://avatar.iran.liara.run/public/1",
+			"description", now, now, null);
+		postEntity = PostEntity.of("benchmark body ".repeat(20), userEntity);
+		postEntity.setPostId(1L);
+		postEntity.setCreatedDateTime(now);
+		postEntity.setUpdatedDateTime(now);
+	}
+
+	@Benchmark
+	public PostResponse postResponseFrom() {
+		return PostResponse.from(postEntity);
+	}
+
+	@Benchmark
+	public User userFrom() {
+		return User.from(userEntity);
+	}
+}
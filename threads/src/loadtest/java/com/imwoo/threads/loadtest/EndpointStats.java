@@ -0,0 +1,71 @@
+package com.imwoo.threads.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * 엔드포인트별 응답시간 ( HdrHistogram ) 과 오류 수 집계
+ * Recorder 는 여러 클라이언트 스레드에서 동시에 기록할 수 있다.
+ */
+final class EndpointStats {
+
+	// 1 µs ~ 60 s, 유효 숫자 3자리
+	private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+	private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+	void record(String endpoint, long latencyNanos, boolean success) {
+		var stats = endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+		stats.recorder.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+		if (!success) {
+			stats.errors.increment();
+		}
+	}
+
+	// 워밍업 구간 기록 제거
+	void reset() {
+		endpoints.values().forEach(Endpoint::reset);
+	}
+
+	void print(String title, Duration measured) {
+		System.out.printf("%n== %s (%ds) ==%n", title, measured.toSeconds());
+		System.out.printf("%-34s %9s %10s %9s %9s %9s %9s %9s %7s%n",
+			"endpoint", "count", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "errors");
+		endpoints.entrySet().stream()
+			.sorted(Map.Entry.comparingByKey())
+			.forEach(entry -> {
+				var histogram = entry.getValue().recorder.getIntervalHistogram();
+				System.out.printf("%-34s %9d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7d%n",
+					entry.getKey(),
+					histogram.getTotalCount(),
+					histogram.getTotalCount() / (measured.toMillis() / 1000.0),
+					millis(histogram, 50.0),
+					millis(histogram, 90.0),
+					millis(histogram, 99.0),
+					millis(histogram, 99.9),
+					histogram.getMaxValue() / 1_000_000.0,
+					entry.getValue().errors.sum());
+			});
+	}
+
+	private static double millis(Histogram histogram, double percentile) {
+		return histogram.getValueAtPercentile(percentile) / 1_000_000.0;
+	}
+
+	private static final class Endpoint {
+
+		private final Recorder recorder = new Recorder(1_000, HIGHEST_TRACKABLE_NANOS, 3);
+		private final LongAdder errors = new LongAdder();
+
+		private void reset() {
+			recorder.reset();
+			errors.reset();
+		}
+	}
+}
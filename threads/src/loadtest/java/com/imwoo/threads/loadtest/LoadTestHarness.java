@@ -0,0 +1,218 @@
+package com.imwoo.threads.loadtest;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * End-to-End HTTP 부하 테스트
+ * 1. Testcontainers PostgreSQL 로 애플리케이션 기동
+ * 2. N 명 가입 ( POST /api/v1/users ) 및 로그인 ( POST /api/v1/users/authenticate )
+ *    BCrypt 해싱 실행기 ( 큐 초과 시 503 ) 를 넘치지 않도록 동시 가입 수를 loadtest.seedConcurrency 로 제한
+ * 3. 사용자별 클라이언트가 설정된 비율로 Post 생성, 조회, 수정, 삭제 및 사용자 검색을 반복
+ * 4. 엔드포인트별 처리량과 HdrHistogram 백분위 응답시간 출력 ( 요청 중 예외는 해당 엔드포인트 오류로 집계 )
+ *
+ * 실행 : ./gradlew loadTest -Dloadtest.users=100 -Dloadtest.duration=60s
+ *   -Dloadtest.mix=list=30,read=20,create=15,update=10,delete=5,search=20 -Dloadtest.virtual=true
+ */
+public class LoadTestHarness {
+
+	private static final String PASSWORD = "loadtest-password";
+
+	private final int users = Integer.getInteger("loadtest.users", 50);
+	private final int seedConcurrency = Integer.getInteger("loadtest.seedConcurrency",
+		Runtime.getRuntime().availableProcessors());
+	private final Duration warmup = duration("loadtest.warmup", "10s");
+	private final Duration duration = duration("loadtest.duration", "30s");
+	private final boolean virtual = Boolean.getBoolean("loadtest.virtual");
+	private final Mix mix = Mix.parse(System.getProperty("loadtest.mix",
+		"list=30,read=20,create=15,update=10,delete=5,search=20"));
+
+	public static void main(String[] args) throws Exception {
+		new LoadTestHarness().run();
+	}
+
+	private void run() throws Exception {
+		try (var standIn = new PostgresStandIn(); var context = standIn.startApplication(virtual)) {
+			var client = new ThreadsApiClient(PostgresStandIn.baseUrl(context));
+			var sessions = signUpAndLogin(client);
+
+			var stats = new EndpointStats();
+			drive(client, sessions, stats, warmup);
+			stats.reset();
+			drive(client, sessions, stats, duration);
+
+			stats.print("mode=" + (virtual ? "virtual" : "platform") + ", users=" + users + ", mix=" + mix,
+				duration);
+		}
+	}
+
+	private List<Session> signUpAndLogin(ThreadsApiClient client) throws Exception {
+		var permits = new Semaphore(seedConcurrency);
+		try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			var futures = new ArrayList<Future<Session>>(users);
+			for (int i = 0; i < users; i++) {
+				var username = "loadtest" + i;
+				futures.add(executor.submit(() -> {
+					permits.acquire();
+					try {
+						return new Session(username, client.signUpAndAuthenticate(username, PASSWORD));
+					} finally {
+						permits.release();
+					}
+				}));
+			}
+			var sessions = new ArrayList<Session>(users);
+			for (var future : futures) {
+				sessions.add(future.get());
+			}
+			return sessions;
+		}
+	}
+
+	// 사용자 1명당 클라이언트 1개 ( closed model )
+	private void drive(ThreadsApiClient client, List<Session> sessions, EndpointStats stats, Duration runFor)
+		throws Exception {
+		var deadline = System.nanoTime() + runFor.toNanos();
+		try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			var futures = new ArrayList<Future<Void>>(sessions.size());
+			for (var session : sessions) {
+				futures.add(executor.submit(() -> {
+					while (System.nanoTime() < deadline) {
+						step(client, session, stats);
+					}
+					return null;
+				}));
+			}
+			for (var future : futures) {
+				future.get();
+			}
+		}
+	}
+
+	private void step(ThreadsApiClient client, Session session, EndpointStats stats) throws InterruptedException {
+		var token = session.accessToken();
+		var ownPostId = session.anyPostId();
+		switch (mix.next()) {
+			case LIST -> timed(stats, "GET /api/v1/posts", () -> client.getPosts(token));
+			case READ -> {
+				if (ownPostId != null) {
+					timed(stats, "GET /api/v1/posts/{postId}", () -> client.getPost(token, ownPostId));
+				}
+			}
+			case CREATE -> {
+				var start = System.nanoTime();
+				Long postId;
+				try {
+					postId = client.createPost(token, "load test post by " + session.username());
+				} catch (IOException | RuntimeException e) {
+					postId = null;
+				}
+				stats.record("POST /api/v1/posts", System.nanoTime() - start, postId != null);
+				if (postId != null) {
+					session.postIds().add(postId);
+				}
+			}
+			case UPDATE -> {
+				if (ownPostId != null) {
+					timed(stats, "PATCH /api/v1/posts/{postId}",
+						() -> client.updatePost(token, ownPostId, "updated post by " + session.username()));
+				}
+			}
+			case DELETE -> {
+				var postId = session.takePostId();
+				if (postId != null) {
+					timed(stats, "DELETE /api/v1/posts/{postId}", () -> client.deletePost(token, postId));
+				}
+			}
+			case SEARCH -> timed(stats, "GET /api/v1/users?query",
+				() -> client.searchUsers(token, "loadtest" + ThreadLocalRandom.current().nextInt(users)));
+		}
+	}
+
+	// 요청 중 예외 ( 연결 실패, 타임아웃 등 ) 는 실행을 중단하지 않고 해당 엔드포인트 오류로 집계
+	private static void timed(EndpointStats stats, String endpoint, ApiCall call) throws InterruptedException {
+		var start = System.nanoTime();
+		boolean success;
+		try {
+			var status = call.call();
+			success = status >= 200 && status < 300;
+		} catch (IOException | RuntimeException e) {
+			success = false;
+		}
+		stats.record(endpoint, System.nanoTime() - start, success);
+	}
+
+	@FunctionalInterface
+	private interface ApiCall {
+		int call() throws IOException, InterruptedException;
+	}
+
+	private static Duration duration(String key, String defaultValue) {
+		return Duration.parse("PT" + System.getProperty(key, defaultValue));
+	}
+
+	/**
+	 * 클라이언트별 상태 ( 단일 스레드에서만 사용 )
+	 */
+	private record Session(String username, String accessToken, List<Long> postIds) {
+
+		Session(String username, String accessToken) {
+			this(username, accessToken, new ArrayList<>());
+		}
+
+		Long anyPostId() {
+			return postIds.isEmpty() ? null : postIds.get(ThreadLocalRandom.current().nextInt(postIds.size()));
+		}
+
+		Long takePostId() {
+			return postIds.isEmpty() ? null : postIds.removeLast();
+		}
+	}
+
+	enum Operation {
+		LIST, READ, CREATE, UPDATE, DELETE, SEARCH
+	}
+
+	/**
+	 * 요청 비율 ( 가중치 ) 예 : list=30,read=20,create=15,update=10,delete=5,search=20
+	 */
+	private record Mix(Map<Operation, Integer> weights, int total) {
+
+		static Mix parse(String value) {
+			var weights = new LinkedHashMap<Operation, Integer>();
+			for (var entry : value.split(",")) {
+				var pair = entry.trim().split("=");
+				weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+			}
+			var total = weights.values().stream().mapToInt(Integer::intValue).sum();
+			if (total <= 0) {
+				throw new IllegalArgumentException("loadtest.mix weights must be positive : " + value);
+			}
+			return new Mix(weights, total);
+		}
+
+		Operation next() {
+			var pick = ThreadLocalRandom.current().nextInt(total);
+			for (var entry : weights.entrySet()) {
+				pick -= entry.getValue();
+				if (pick < 0) {
+					return entry.getKey();
+				}
+			}
+			throw new IllegalStateException();
+		}
+
+		@Override
+		public String toString() {
+			return weights.toString();
+		}
+	}
+}
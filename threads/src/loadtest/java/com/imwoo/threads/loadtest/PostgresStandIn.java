@@ -0,0 +1,53 @@
+package com.imwoo.threads.loadtest;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.imwoo.threads.ThreadsApplication;
+
+/**
+ * 부하 테스트용 PostgreSQL ( Testcontainers ) 와 애플리케이션 기동
+ * 로컬 DB 상태와 무관하게 매 실행마다 빈 스키마에서 시작하므로 결과를 반복 비교할 수 있다.
+ */
+final class PostgresStandIn implements AutoCloseable {
+
+	private static final String IMAGE = "postgres:16-alpine";
+
+	private final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(IMAGE)
+		.withDatabaseName("threads-db")
+		.withUsername("threads-master")
+		.withPassword("1234");
+
+	PostgresStandIn() {
+		postgres.start();
+	}
+
+	/**
+	 * 임의 포트로 애플리케이션 기동 ( dev 프로필 + Stand-in DB )
+	 * @param virtual spring.threads.virtual.enabled
+	 */
+	ConfigurableApplicationContext startApplication(boolean virtual) {
+		return new SpringApplicationBuilder(ThreadsApplication.class)
+			.profiles("dev")
+			.properties(
+				"server.port=0",
+				"management.server.port=0",
+				"spring.datasource.url=" + postgres.getJdbcUrl(),
+				"spring.datasource.username=" + postgres.getUsername(),
+				"spring.datasource.password=" + postgres.getPassword(),
+				"spring.threads.virtual.enabled=" + virtual,
+				"spring.jpa.show-sql=false",
+				"logging.level.root=warn")
+			.run();
+	}
+
+	static String baseUrl(ConfigurableApplicationContext context) {
+		return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+	}
+
+	@Override
+	public void close() {
+		postgres.stop();
+	}
+}
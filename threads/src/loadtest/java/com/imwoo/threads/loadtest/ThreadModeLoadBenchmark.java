@@ -0,0 +1,96 @@
+package com.imwoo.threads.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Platform Thread / Virtual Thread 실행 모드 처리량, p99 응답시간 비교 벤치마크
+ * 모드별로 애플리케이션을 임의 포트로 기동하고 ( Testcontainers PostgreSQL ),
+ * 동일한 시드 데이터와 동일한 부하 ( closed model, 동시 사용자 수 고정 ) 로 각 엔드포인트를 측정한다.
+ * 한 JVM 에서 두 모드를 이어서 실행하면 뒤 모드가 JIT, 클래스 로딩, 커넥션 풀 예열 효과를 받으므로
+ * 실행마다 loadtest.mode 한 가지만 측정하고, Gradle 이 모드별로 새 JVM 을 띄운다.
+ *
+ * 실행 : ./gradlew threadModeBenchmark -Dloadtest.concurrency=400 -Dloadtest.duration=20s
+ * ( 모드 하나만 : ./gradlew threadModeBenchmarkVirtual )
+ */
+public class ThreadModeLoadBenchmark {
+
+	private static final String USERNAME = "loadtest";
+	private static final String PASSWORD = "loadtest";
+	private static final int SEED_POSTS = 50;
+
+	private final int concurrency = Integer.getInteger("loadtest.concurrency", 400);
+	private final Duration warmup = Duration.parse("PT" + System.getProperty("loadtest.warmup", "5s"));
+	private final Duration duration = Duration.parse("PT" + System.getProperty("loadtest.duration", "20s"));
+
+	public static void main(String[] args) throws Exception {
+		var mode = System.getProperty("loadtest.mode");
+		if (!"platform".equals(mode) && !"virtual".equals(mode)) {
+			throw new IllegalArgumentException("loadtest.mode must be platform or virtual : " + mode);
+		}
+		try (var standIn = new PostgresStandIn()) {
+			new ThreadModeLoadBenchmark().run(standIn, "virtual".equals(mode));
+		}
+	}
+
+	private void run(PostgresStandIn standIn, boolean virtual) throws Exception {
+		// dev 프로필 ddl-auto : create-drop 으로 모드마다 빈 스키마에서 시작
+		try (var context = standIn.startApplication(virtual)) {
+			var client = new ThreadsApiClient(PostgresStandIn.baseUrl(context));
+			var accessToken = seed(client);
+
+			var stats = new EndpointStats();
+			List<Endpoint> endpoints = List.of(
+				new Endpoint("GET /api/v1/posts", () -> client.getPosts(accessToken)),
+				new Endpoint("GET /api/v1/users", () -> client.searchUsers(accessToken, USERNAME)));
+			for (var endpoint : endpoints) {
+				load(endpoint, stats, warmup);
+				stats.reset();
+				load(endpoint, stats, duration);
+			}
+			stats.print("mode=" + (virtual ? "virtual" : "platform") + ", concurrency=" + concurrency, duration);
+		}
+	}
+
+	// 사용자 가입, 인증 후 Post 시드 적재
+	private String seed(ThreadsApiClient client) throws Exception {
+		var accessToken = client.signUpAndAuthenticate(USERNAME, PASSWORD);
+		for (int i = 0; i < SEED_POSTS; i++) {
+			client.createPost(accessToken, "load test post " + i);
+		}
+		return accessToken;
+	}
+
+	// 동시 사용자 수 만큼 요청을 연속으로 전송
+	private void load(Endpoint endpoint, EndpointStats stats, Duration runFor) throws Exception {
+		var deadline = System.nanoTime() + runFor.toNanos();
+		try (var clients = Executors.newVirtualThreadPerTaskExecutor()) {
+			var futures = new ArrayList<Future<Void>>(concurrency);
+			for (int i = 0; i < concurrency; i++) {
+				futures.add(clients.submit(() -> {
+					while (System.nanoTime() < deadline) {
+						var start = System.nanoTime();
+						boolean success;
+						try {
+							success = endpoint.call().call() == 200;
+						} catch (Exception e) {
+							success = false;
+						}
+						stats.record(endpoint.name(), System.nanoTime() - start, success);
+					}
+					return null;
+				}));
+			}
+			for (var future : futures) {
+				future.get();
+			}
+		}
+	}
+
+	private record Endpoint(String name, Callable<Integer> call) {
+	}
+}
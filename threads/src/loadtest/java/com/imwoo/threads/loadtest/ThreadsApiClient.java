@@ -0,0 +1,117 @@
+package com.imwoo.threads.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * PostController, UserController 실제 경로 호출 클라이언트
+ * 모든 요청이 Security Filter Chain ( JWT 인증 ) 을 거치도록 Bearer 토큰을 사용한다.
+ */
+final class ThreadsApiClient {
+
+	private static final ObjectMapper objectMapper = new ObjectMapper();
+	// 가입, 로그인 503 ( BCrypt 해싱 실행기 포화 ) 재시도
+	private static final int MAX_ATTEMPTS = 10;
+	private static final Duration RETRY_BACKOFF = Duration.ofMillis(200);
+
+	private final String baseUrl;
+	private final HttpClient httpClient = HttpClient.newBuilder()
+		.executor(Executors.newVirtualThreadPerTaskExecutor())
+		.connectTimeout(Duration.ofSeconds(5))
+		.build();
+
+	ThreadsApiClient(String baseUrl) {
+		this.baseUrl = baseUrl;
+	}
+
+	/**
+	 * 가입 후 로그인해서 accessToken 반환
+	 * 가입, 로그인은 크기가 제한된 BCrypt 해싱 실행기를 거치므로 503 은 backoff 후 재시도하고,
+	 * 그 밖의 실패는 상태 코드와 함께 예외로 알린다.
+	 */
+	String signUpAndAuthenticate(String username, String password) throws IOException, InterruptedException {
+		var signUp = sendWithRetry(() -> jsonRequest("/api/v1/users", null)
+			.POST(body(Map.of("username", username, "password", password))));
+		if (signUp.statusCode() != 200) {
+			throw new IllegalStateException("sign up failed : " + username + ", status=" + signUp.statusCode());
+		}
+
+		var authenticate = sendWithRetry(() -> jsonRequest("/api/v1/users/authenticate", null)
+			.POST(body(Map.of("username", username, "password", password))));
+		if (authenticate.statusCode() != 200) {
+			throw new IllegalStateException(
+				"authenticate failed : " + username + ", status=" + authenticate.statusCode());
+		}
+		return objectMapper.readTree(authenticate.body()).get("accessToken").asText();
+	}
+
+	// 생성된 postId 반환 ( 실패 시 null )
+	Long createPost(String accessToken, String postBody) throws IOException, InterruptedException {
+		var response = send(jsonRequest("/api/v1/posts", accessToken).POST(body(Map.of("body", postBody))));
+		return response.statusCode() == 200 ? objectMapper.readTree(response.body()).get("postId").asLong() : null;
+	}
+
+	int getPosts(String accessToken) throws IOException, InterruptedException {
+		return send(jsonRequest("/api/v1/posts", accessToken).GET()).statusCode();
+	}
+
+	int getPost(String accessToken, long postId) throws IOException, InterruptedException {
+		return send(jsonRequest("/api/v1/posts/" + postId, accessToken).GET()).statusCode();
+	}
+
+	int updatePost(String accessToken, long postId, String postBody) throws IOException, InterruptedException {
+		return send(jsonRequest("/api/v1/posts/" + postId, accessToken)
+			.method("PATCH", body(Map.of("body", postBody)))).statusCode();
+	}
+
+	int deletePost(String accessToken, long postId) throws IOException, InterruptedException {
+		return send(jsonRequest("/api/v1/posts/" + postId, accessToken).DELETE()).statusCode();
+	}
+
+	int searchUsers(String accessToken, String query) throws IOException, InterruptedException {
+		var path = "/api/v1/users?query=" + URLEncoder.encode(query, StandardCharsets.UTF_8);
+		return send(jsonRequest(path, accessToken).GET()).statusCode();
+	}
+
+	private HttpRequest.Builder jsonRequest(String path, String accessToken) {
+		var builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+			.header("Content-Type", "application/json");
+		if (accessToken != null) {
+			builder.header("Authorization", "Bearer " + accessToken);
+		}
+		return builder;
+	}
+
+	private HttpResponse<String> send(HttpRequest.Builder builder) throws IOException, InterruptedException {
+		return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+	}
+
+	private HttpResponse<String> sendWithRetry(RequestSupplier request) throws IOException, InterruptedException {
+		for (int attempt = 1; ; attempt++) {
+			var response = send(request.get());
+			if (response.statusCode() != 503 || attempt == MAX_ATTEMPTS) {
+				return response;
+			}
+			Thread.sleep(RETRY_BACKOFF.multipliedBy(attempt));
+		}
+	}
+
+	@FunctionalInterface
+	private interface RequestSupplier {
+		HttpRequest.Builder get() throws IOException;
+	}
+
+	private static HttpRequest.BodyPublisher body(Map<String, String> body) throws IOException {
+		return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+	}
+}
@@ -0,0 +1,28 @@
+package com.imwoo.threads.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 엔티티 리스너에서 캐시 / 인덱스 갱신을 트랜잭션 커밋 이후로 미룬다.
+ * 커밋 전에 무효화하면 다른 요청이 커밋 전 값을 다시 적재할 수 있고, 롤백 시에는 잘못 제거된다.
+ * 트랜잭션 동기화가 없는 경우 ( 트랜잭션 밖 호출 ) 에는 바로 실행한다.
+ */
+final class AfterCommit {
+
+	private AfterCommit() {
+	}
+
+	static void run(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
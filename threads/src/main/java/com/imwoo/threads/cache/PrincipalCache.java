@@ -0,0 +1,53 @@
+package com.imwoo.threads.cache;
+
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.imwoo.threads.config.properties.PrincipalCacheProperties;
+import com.imwoo.threads.model.user.CachedUserPrincipal;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 인증 요청마다 조회하는 Principal 캐시
+ * 요청 간에 공유되므로 UserEntity 가 아닌 불변 CachedUserPrincipal 을 username 기준으로 보관하며,
+ * 사용자 수정 및 Soft Delete 트랜잭션 커밋 이후 무효화한다.
+ * 캐시 hit 1건은 findByUsername 조회 1회를 생략한 것이므로
+ * user.principal.db.round-trips.saved / cache.gets{cache="user.principal"} 로 요청당 절약한 DB 왕복 수를 확인할 수 있다.
+ */
+@Component
+public class PrincipalCache {
+
+	public static final String CACHE_NAME = "user.principal";
+
+	private final Cache<String, CachedUserPrincipal> cache;
+
+	public PrincipalCache(PrincipalCacheProperties principalCacheProperties, MeterRegistry meterRegistry) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(principalCacheProperties.maxSize())
+			.expireAfterWrite(principalCacheProperties.ttl())
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+		FunctionCounter.builder("user.principal.db.round-trips.saved", cache, c -> c.stats().hitCount())
+			.description("Principal 캐시 hit 로 생략한 findByUsername 조회 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 캐시된 Principal 반환, 없으면 loader 로 조회 후 적재
+	 * loader 예외 ( 사용자 없음 등 ) 는 그대로 전파되고 캐시에 적재되지 않는다.
+	 */
+	public CachedUserPrincipal get(String username, Function<String, CachedUserPrincipal> loader) {
+		return cache.get(username, loader);
+	}
+
+	public void evict(String username) {
+		cache.invalidate(username);
+	}
+}
@@ -0,0 +1,31 @@
+package com.imwoo.threads.cache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.imwoo.threads.model.entity.UserEntity;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * UserEntity 변경 시 Principal 캐시 무효화
+ * Soft Delete ( @SQLDelete ) 는 remove 로 처리되므로 @PostRemove 로 함께 처리된다.
+ * flush 시점이 아닌 커밋 이후에 무효화해서 커밋 전 값이 다시 적재되지 않도록 한다.
+ * Hibernate 가 SpringBeanContainer 를 통해 Spring Bean 으로 생성한다.
+ * JPA 슬라이스 테스트 ( @DataJpaTest ) 처럼 캐시 Bean 이 없는 컨텍스트에서도 생성될 수 있도록 ObjectProvider 로 주입
+ */
+@Component
+@RequiredArgsConstructor
+public class PrincipalCacheInvalidationListener {
+
+	private final ObjectProvider<PrincipalCache> principalCache;
+
+	@PostUpdate
+	@PostRemove
+	public void evict(UserEntity userEntity) {
+		var username = userEntity.getUsername();
+		principalCache.ifAvailable(cache -> AfterCommit.run(() -> cache.evict(username)));
+	}
+}
@@ -0,0 +1,64 @@
+package com.imwoo.threads.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.imwoo.threads.config.properties.TimelineProperties;
+import com.imwoo.threads.model.post.response.PostResponse;
+import com.imwoo.threads.repository.PostEntityRepository;
+
+/**
+ * 고팔로워 작성자별 최근 Post 캐시 ( Fan-out-on-read )
+ * 작성자별 최신순 ( postId 내림차순 ) 불변 목록을 보관하고,
+ * 캐시 미스 시 작성자 최신 Post 를 한번의 쿼리로 적재한다.
+ */
+@Component
+public class RecentPostCache {
+
+	private final LoadingCache<Long, List<PostResponse>> cache;
+	private final int recentPostsPerAuthor;
+
+	public RecentPostCache(PostEntityRepository postEntityRepository, TimelineProperties timelineProperties) {
+		var hybrid = timelineProperties.hybrid();
+		this.recentPostsPerAuthor = hybrid.recentPostsPerAuthor();
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(hybrid.recentPostCacheMaxAuthors())
+			.expireAfterWrite(hybrid.recentPostCacheTtl())
+			.build(authorId -> List.copyOf(
+				postEntityRepository.findLatestByUserId(authorId, Limit.of(recentPostsPerAuthor))));
+	}
+
+	public List<PostResponse> get(Long authorId) {
+		return cache.get(authorId);
+	}
+
+	/**
+	 * 신규 Post 를 적재된 작성자 목록 앞에 추가
+	 * 적재되지 않은 작성자는 다음 조회 시점에 DB 에서 최신 목록을 읽으므로 별도 처리하지 않는다.
+	 */
+	public void push(PostResponse post) {
+		cache.asMap().computeIfPresent(post.user().userId(), (authorId, posts) -> {
+			var updated = new ArrayList<PostResponse>(recentPostsPerAuthor);
+			updated.add(post);
+			for (var cached : posts) {
+				if (updated.size() >= recentPostsPerAuthor) {
+					break;
+				}
+				if (!cached.postId().equals(post.postId())) {
+					updated.add(cached);
+				}
+			}
+			return List.copyOf(updated);
+		});
+	}
+
+	// Post 수정, 삭제 시 작성자 목록 무효화
+	public void evict(Long authorId) {
+		cache.invalidate(authorId);
+	}
+}
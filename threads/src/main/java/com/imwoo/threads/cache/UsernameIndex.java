@@ -0,0 +1,89 @@
+package com.imwoo.threads.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.imwoo.threads.repository.UserEntityRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * username 자동완성용 프로세스 내 정렬 인덱스
+ * 정렬된 String 배열에서 이진 탐색으로 prefix 이상인 첫 위치를 찾고 prefix 로 시작하는 동안만 순회하므로
+ * 조회는 O(log n + limit) 이며 DB 왕복이 없다.
+ * 원소마다 노드를 두는 skip list 와 달리 username 참조 외의 부가 메모리가 없고,
+ * 가입 / 삭제는 배열을 복사해서 교체 ( copy-on-write ) 하므로 조회는 잠금 없이 실행된다.
+ * 노드 ( 프로세스 ) 마다 따로 유지되는 인덱스이므로, 이 노드의 커밋만 바로 반영되고 ( UsernameIndexListener )
+ * 다른 노드에서 가입 / 삭제된 username 은 주기적인 전체 재적재 ( refreshInterval ) 이후에 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UsernameIndex {
+
+	private final UserEntityRepository userEntityRepository;
+	private volatile String[] usernames = new String[0];
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${threads.user-search.index-refresh-interval:10m}",
+		initialDelayString = "${threads.user-search.index-refresh-interval:10m}")
+	public void load() {
+		var loaded = userEntityRepository.findAllUsernames().toArray(String[]::new);
+		Arrays.sort(loaded);
+		// 조회 중에 커밋된 가입 / 삭제가 덮어써질 수 있지만 다음 재적재에서 반영된다.
+		synchronized (this) {
+			usernames = loaded;
+		}
+		log.info("Username index loaded : {} usernames", loaded.length);
+	}
+
+	public List<String> autocomplete(String prefix, int limit) {
+		var snapshot = usernames;
+		var matches = new ArrayList<String>(limit);
+		for (var i = insertionPoint(snapshot, prefix); i < snapshot.length && matches.size() < limit; i++) {
+			if (!snapshot[i].startsWith(prefix)) {
+				break;
+			}
+			matches.add(snapshot[i]);
+		}
+		return matches;
+	}
+
+	public synchronized void add(String username) {
+		var snapshot = usernames;
+		var index = Arrays.binarySearch(snapshot, username);
+		if (index >= 0) {
+			return;
+		}
+		var position = -index - 1;
+		var updated = new String[snapshot.length + 1];
+		System.arraycopy(snapshot, 0, updated, 0, position);
+		updated[position] = username;
+		System.arraycopy(snapshot, position, updated, position + 1, snapshot.length - position);
+		usernames = updated;
+	}
+
+	public synchronized void remove(String username) {
+		var snapshot = usernames;
+		var position = Arrays.binarySearch(snapshot, username);
+		if (position < 0) {
+			return;
+		}
+		var updated = new String[snapshot.length - 1];
+		System.arraycopy(snapshot, 0, updated, 0, position);
+		System.arraycopy(snapshot, position + 1, updated, position, snapshot.length - position - 1);
+		usernames = updated;
+	}
+
+	private static int insertionPoint(String[] sorted, String key) {
+		var index = Arrays.binarySearch(sorted, key);
+		return index >= 0 ? index : -index - 1;
+	}
+}
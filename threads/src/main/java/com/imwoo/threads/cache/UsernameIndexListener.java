@@ -0,0 +1,34 @@
+package com.imwoo.threads.cache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.imwoo.threads.model.entity.UserEntity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * UserEntity 저장 / 삭제 ( Soft Delete 포함 ) 를 자동완성 인덱스에 반영
+ * 커밋 이후에 반영해서 롤백된 가입 / 삭제가 인덱스에 남지 않도록 한다.
+ * PrincipalCacheInvalidationListener 와 같이 인덱스 Bean 이 없는 컨텍스트를 위해 ObjectProvider 로 주입
+ */
+@Component
+@RequiredArgsConstructor
+public class UsernameIndexListener {
+
+	private final ObjectProvider<UsernameIndex> usernameIndex;
+
+	@PostPersist
+	public void add(UserEntity userEntity) {
+		var username = userEntity.getUsername();
+		usernameIndex.ifAvailable(index -> AfterCommit.run(() -> index.add(username)));
+	}
+
+	@PostRemove
+	public void remove(UserEntity userEntity) {
+		var username = userEntity.getUsername();
+		usernameIndex.ifAvailable(index -> AfterCommit.run(() -> index.remove(username)));
+	}
+}
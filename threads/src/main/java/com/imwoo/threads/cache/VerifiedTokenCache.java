@@ -0,0 +1,85 @@
+package com.imwoo.threads.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.imwoo.threads.config.properties.JwtProperties;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 서명 검증을 마친 토큰의 Claims 캐시
+ * 동일 토큰 재요청 시 파싱, HMAC 검증 없이 Claims 를 반환한다.
+ * 토큰 원문 대신 SHA-256 digest 를 키로 보관하고, 각 항목은 토큰 만료 ( exp ) 시점에 함께 만료된다.
+ * 캐시 hit / miss 는 cache.gets{cache="jwt.verified-token"} 메트릭으로 노출
+ */
+@Component
+public class VerifiedTokenCache {
+
+	public static final String CACHE_NAME = "jwt.verified-token";
+
+	private final Cache<String, Claims> cache;
+
+	public VerifiedTokenCache(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(jwtProperties.verifiedTokenCacheMaxSize())
+			.expireAfter(new ExpireAtTokenExpiration())
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	/**
+	 * 캐시된 Claims 반환, 없으면 verifier 로 검증 후 적재
+	 * verifier 예외 ( 서명 불일치, 만료 등 ) 는 그대로 전파되고 캐시에 적재되지 않는다.
+	 */
+	public Claims get(String token, Function<String, Claims> verifier) {
+		return cache.get(digest(token), key -> verifier.apply(token));
+	}
+
+	private static String digest(String token) {
+		try {
+			var sha256 = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 토큰 exp 까지 남은 시간을 항목 만료 시간으로 사용 ( exp 가 없는 토큰은 캐시하지 않음 )
+	 */
+	private static class ExpireAtTokenExpiration implements Expiry<String, Claims> {
+
+		@Override
+		public long expireAfterCreate(String key, Claims claims, long currentTime) {
+			var expiration = claims.getExpiration();
+			if (expiration == null) {
+				return 0;
+			}
+			var remainingMillis = expiration.getTime() - Instant.now().toEpochMilli();
+			return Math.max(0, remainingMillis) * 1_000_000;
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+
+		@Override
+		public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.imwoo.threads.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.imwoo.threads.config.properties.AccessLogProperties;
+import com.imwoo.threads.filter.AccessLogFilter;
+import com.imwoo.threads.monitor.accesslog.AccessLogWriter;
+import com.imwoo.threads.monitor.accesslog.SampledSqlLogInspector;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@ConditionalOnProperty(prefix = "threads.access-log", name = "enabled", matchIfMissing = true)
+public class AccessLogConfiguration {
+
+	@Bean
+	public AccessLogWriter accessLogWriter(AccessLogProperties accessLogProperties, ObjectMapper objectMapper,
+		MeterRegistry meterRegistry) {
+		return new AccessLogWriter(accessLogProperties, objectMapper, meterRegistry);
+	}
+
+	/**
+	 * 응답 상태, 소요 시간에 인증 처리까지 포함하도록 StatementCountFilter 다음, Security Filter Chain 앞에 등록
+	 */
+	@Bean
+	public FilterRegistrationBean<AccessLogFilter> accessLogFilter(AccessLogProperties accessLogProperties,
+		AccessLogWriter accessLogWriter) {
+		var registrationBean = new FilterRegistrationBean<>(
+			new AccessLogFilter(accessLogProperties, accessLogWriter));
+		registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+		return registrationBean;
+	}
+
+	/**
+	 * Hibernate SQL 도 샘플링된 요청 기준으로 기록
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "threads.access-log", name = "sql", havingValue = "true")
+	public HibernatePropertiesCustomizer sampledSqlLogCustomizer(AccessLogProperties accessLogProperties,
+		AccessLogWriter accessLogWriter) {
+		return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR,
+			new SampledSqlLogInspector(accessLogWriter, accessLogProperties.maxBodyLength()));
+	}
+}
@@ -0,0 +1,110 @@
+package com.imwoo.threads.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.imwoo.threads.config.properties.PasswordProperties;
+import com.imwoo.threads.config.properties.TimelineProperties;
+
+@Configuration
+@EnableAsync
+public class AsyncConfiguration {
+
+	public static final String TIMELINE_FAN_OUT_EXECUTOR = "timelineFanOutExecutor";
+	public static final String PASSWORD_HASHING_EXECUTOR = "passwordHashingExecutor";
+
+	/**
+	 * @Async 기본 실행기 + MVC 비동기 처리 ( StreamingResponseBody ) 실행기
+	 * 아래 전용 Executor Bean 이 있으면 Spring Boot 의 applicationTaskExecutor 자동 구성이
+	 * ( @ConditionalOnMissingBean(Executor.class) ) 빠지므로 직접 등록한다.
+	 * Boot 가 구성한 Builder 를 사용하므로 spring.task.execution.* 설정이 그대로 반영된다.
+	 */
+	@Lazy
+	@Bean(name = {
+		TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+		AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+	})
+	@ConditionalOnThreading(Threading.PLATFORM)
+	public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder threadPoolTaskExecutorBuilder) {
+		return threadPoolTaskExecutorBuilder.build();
+	}
+
+	/**
+	 * Virtual Thread 실행 모드의 @Async 기본 실행기 + MVC 비동기 처리 실행기
+	 * Boot 의 SimpleAsyncTaskExecutorBuilder 가 Virtual Thread 모드에서 virtualThreads 를 켜 준다.
+	 */
+	@Lazy
+	@Bean(name = {
+		TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+		AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+	})
+	@ConditionalOnThreading(Threading.VIRTUAL)
+	public SimpleAsyncTaskExecutor applicationTaskExecutorVirtualThreads(
+		SimpleAsyncTaskExecutorBuilder simpleAsyncTaskExecutorBuilder
+	) {
+		return simpleAsyncTaskExecutorBuilder.build();
+	}
+
+	/**
+	 * 타임라인 Fan-out 전용 워커 풀
+	 * 큐가 가득 차면 Fan-out 이 유실되지 않도록 호출 스레드에서 직접 처리 ( CallerRunsPolicy )
+	 */
+	@Bean(name = TIMELINE_FAN_OUT_EXECUTOR)
+	@ConditionalOnThreading(Threading.PLATFORM)
+	public ThreadPoolTaskExecutor timelineFanOutExecutor(TimelineProperties timelineProperties) {
+		var fanOut = timelineProperties.fanOut();
+		var executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(fanOut.corePoolSize());
+		executor.setMaxPoolSize(fanOut.maxPoolSize());
+		executor.setQueueCapacity(fanOut.queueCapacity());
+		executor.setThreadNamePrefix("timeline-fan-out-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
+
+	/**
+	 * Virtual Thread 실행 모드 ( spring.threads.virtual.enabled ) 의 타임라인 Fan-out 실행기
+	 * 작업마다 Virtual Thread 를 생성하고, DB 커넥션 풀 고갈을 막기 위해 동시 실행 수를 maxPoolSize 로 제한
+	 * 제한에 도달하면 호출 스레드가 대기한다.
+	 */
+	@Bean(name = TIMELINE_FAN_OUT_EXECUTOR)
+	@ConditionalOnThreading(Threading.VIRTUAL)
+	public SimpleAsyncTaskExecutor virtualTimelineFanOutExecutor(TimelineProperties timelineProperties) {
+		var executor = new SimpleAsyncTaskExecutor("timeline-fan-out-");
+		executor.setVirtualThreads(true);
+		executor.setConcurrencyLimit(timelineProperties.fanOut().maxPoolSize());
+		executor.setTaskTerminationTimeout(30_000);
+		return executor;
+	}
+
+	/**
+	 * BCrypt 해싱 전용 워커 풀 ( CPU 코어 수 고정 )
+	 * 로그인 폭주 시 Tomcat 워커가 해싱으로 모두 점유되지 않도록 동시 해싱 수와 대기 수를 제한하고,
+	 * 큐가 가득 차면 대기 없이 거절 ( AbortPolicy ) 하여 503 으로 응답한다.
+	 */
+	@Bean(name = PASSWORD_HASHING_EXECUTOR)
+	public ThreadPoolTaskExecutor passwordHashingExecutor(PasswordProperties passwordProperties) {
+		var hashing = passwordProperties.hashing();
+		var executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(hashing.resolvedPoolSize());
+		executor.setMaxPoolSize(hashing.resolvedPoolSize());
+		executor.setQueueCapacity(hashing.queueCapacity());
+		executor.setThreadNamePrefix("password-hashing-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		return executor;
+	}
+}
@@ -4,12 +4,14 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import com.imwoo.threads.config.properties.PasswordProperties;
+
 @Configuration
 public class EncoderConfiguration {
 
 	@Bean
-	public BCryptPasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public BCryptPasswordEncoder passwordEncoder(PasswordProperties passwordProperties) {
+		return new BCryptPasswordEncoder(passwordProperties.bcryptStrength());
 
 	}
 }
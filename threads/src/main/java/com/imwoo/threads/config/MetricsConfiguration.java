@@ -0,0 +1,33 @@
+package com.imwoo.threads.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.imwoo.threads.monitor.TimedJacksonHttpMessageConverter;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class MetricsConfiguration {
+
+	/**
+	 * @Timed 적용 클래스의 public 메서드 시간 측정 ( class, method, exception 태그 )
+	 * exception 태그가 none 이면 성공, 그 외는 실패 예외 클래스명
+	 */
+	@Bean
+	public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+		return new TimedAspect(meterRegistry);
+	}
+
+	/**
+	 * Boot 기본 Jackson Converter 대신 등록 ( 기본 Converter 는 ConditionalOnMissingBean 으로 제외 )
+	 */
+	@Bean
+	public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper,
+		MeterRegistry meterRegistry) {
+		return new TimedJacksonHttpMessageConverter(objectMapper, meterRegistry);
+	}
+}
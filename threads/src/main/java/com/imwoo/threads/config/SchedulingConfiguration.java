@@ -0,0 +1,13 @@
+package com.imwoo.threads.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업 ( 타임라인 Inbox 정리 ) 활성화
+ * 실행기는 Spring Boot 가 구성하는 taskScheduler ( spring.task.scheduling.* ) 를 사용한다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
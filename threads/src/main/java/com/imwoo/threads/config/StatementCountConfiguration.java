@@ -0,0 +1,39 @@
+package com.imwoo.threads.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.imwoo.threads.config.properties.StatementCountProperties;
+import com.imwoo.threads.filter.StatementCountFilter;
+import com.imwoo.threads.monitor.StatementCountDataSourcePostProcessor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@ConditionalOnProperty(prefix = "threads.statement-count", name = "enabled", matchIfMissing = true)
+public class StatementCountConfiguration {
+
+	/**
+	 * Hibernate, JdbcTemplate 이 실행하는 SQL 을 모두 집계하도록 DataSource 를 감싼다.
+	 * BeanPostProcessor 는 다른 Bean 보다 먼저 생성되어야 하므로 static 으로 등록
+	 */
+	@Bean
+	public static StatementCountDataSourcePostProcessor statementCountDataSourcePostProcessor() {
+		return new StatementCountDataSourcePostProcessor();
+	}
+
+	/**
+	 * JwtAuthenticationFilter 의 사용자 조회까지 포함하도록 Security Filter Chain 보다 앞에 등록
+	 */
+	@Bean
+	public FilterRegistrationBean<StatementCountFilter> statementCountFilter(
+		StatementCountProperties statementCountProperties, MeterRegistry meterRegistry) {
+		var registrationBean = new FilterRegistrationBean<>(
+			new StatementCountFilter(statementCountProperties, meterRegistry));
+		registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+		return registrationBean;
+	}
+}
@@ -62,6 +62,10 @@ public class WebSecurityConfiguration {
 				request
 					.requestMatchers(HttpMethod.POST, "/api/v1/users", "/api/v1/users/authenticate")
 					.permitAll()
+					// 메트릭 수집기 scrape 용
+					// actuator 는 서비스 포트에서 제공되지 않고 관리 포트 ( management.server ) 에서만 응답한다.
+					.requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus")
+					.permitAll()
 					.anyRequest()
 					.authenticated()
 			)
@@ -0,0 +1,33 @@
+package com.imwoo.threads.config.properties;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 비동기 Access Log 설정
+ * @param enabled Access Log Filter 등록 여부
+ * @param bufferSize 요청 스레드와 Writer 스레드 사이 버퍼 크기 ( 가득 차면 버림 )
+ * @param maxBodyLength 요청 본문, SQL 문 최대 기록 길이
+ * @param defaultSampleRate routes 에 해당하지 않는 요청의 샘플링 비율 ( 0.0 ~ 1.0 )
+ * @param routes 경로 패턴별 샘플링 비율 ( 선언 순서대로 처음 일치하는 패턴 적용 )
+ * @param bodyExcludedRoutes 요청 본문을 기록하지 않는 경로 패턴 ( 비밀번호 등 민감 정보 )
+ * @param sql 샘플링된 요청에서 실행된 SQL 도 Access Log 로 기록 ( show-sql 대체 )
+ */
+@ConfigurationProperties(prefix = "threads.access-log")
+public record AccessLogProperties(
+	@DefaultValue("true") boolean enabled,
+	@DefaultValue("8192") int bufferSize,
+	@DefaultValue("256") int maxBodyLength,
+	@DefaultValue("1.0") double defaultSampleRate,
+	Map<String, Double> routes,
+	@DefaultValue({"/api/v1/users", "/api/v1/users/authenticate"}) List<String> bodyExcludedRoutes,
+	@DefaultValue("false") boolean sql
+) {
+
+	public AccessLogProperties {
+		routes = routes == null ? Map.of() : routes;
+	}
+}
@@ -0,0 +1,24 @@
+package com.imwoo.threads.config.properties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * actuator jfr endpoint 레코딩 설정
+ * @param settings JDK 기본 제공 설정 이름 ( default : 오버헤드 1% 미만, profile : 약 2% )
+ * @param dumpDirectory 레코딩 dump 파일 저장 경로
+ * @param maxAge 레코딩 보관 최대 시간 ( 초과 구간은 버림 )
+ * @param maxSize 레코딩 보관 최대 크기
+ */
+@ConfigurationProperties(prefix = "threads.jfr")
+public record JfrProperties(
+	@DefaultValue("profile") String settings,
+	@DefaultValue("jfr") Path dumpDirectory,
+	@DefaultValue("30m") Duration maxAge,
+	@DefaultValue("256MB") DataSize maxSize
+) {
+}
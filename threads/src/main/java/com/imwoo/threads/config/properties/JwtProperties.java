@@ -0,0 +1,23 @@
+package com.imwoo.threads.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * JWT 설정
+ * @param verifiedTokenCacheMaxSize 서명 검증을 마친 토큰 캐시 최대 보관 건수
+ * @param principalMode 인증 Principal 생성 방식
+ */
+@ConfigurationProperties(prefix = "threads.jwt")
+public record JwtProperties(
+	@DefaultValue("100000") long verifiedTokenCacheMaxSize,
+	@DefaultValue("database") PrincipalMode principalMode
+) {
+
+	public enum PrincipalMode {
+		// 요청마다 UserService 로 UserEntity 조회 ( Principal 캐시 적용 )
+		DATABASE,
+		// 검증된 Claims 로 ClaimsUserPrincipal 생성, DB 조회 없음
+		CLAIMS
+	}
+}
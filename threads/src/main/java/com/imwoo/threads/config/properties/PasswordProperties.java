@@ -0,0 +1,34 @@
+package com.imwoo.threads.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 패스워드 해싱 설정
+ * @param bcryptStrength BCrypt cost factor ( 변경 시 로그인 성공 시점에 재해싱 )
+ * @param hashing 해싱 전용 워커 풀 설정
+ */
+@ConfigurationProperties(prefix = "threads.password")
+public record PasswordProperties(
+	@DefaultValue("10") int bcryptStrength,
+	@DefaultValue Hashing hashing
+) {
+
+	/**
+	 * @param poolSize 해싱 워커 스레드 수 ( 0 이하면 CPU 코어 수 )
+	 * @param queueCapacity 대기 가능한 해싱 작업 수 ( 초과 시 즉시 503 응답 )
+	 * @param timeout 해싱 결과 최대 대기 시간
+	 */
+	public record Hashing(
+		@DefaultValue("0") int poolSize,
+		@DefaultValue("16") int queueCapacity,
+		@DefaultValue("5s") Duration timeout
+	) {
+
+		public int resolvedPoolSize() {
+			return poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.imwoo.threads.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 인증 Principal ( UserEntity ) 캐시 설정
+ * @param maxSize 최대 보관 사용자 수
+ * @param ttl 적재 후 만료 시간 ( 다른 인스턴스에서 변경된 사용자 정보의 최대 지연 시간 )
+ */
+@ConfigurationProperties(prefix = "threads.principal-cache")
+public record PrincipalCacheProperties(
+	@DefaultValue("10000") long maxSize,
+	@DefaultValue("5m") Duration ttl
+) {
+}
@@ -0,0 +1,18 @@
+package com.imwoo.threads.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Post 전문 검색 설정
+ * @param recencyHalfLife 작성 후 이 시간이 지나면 ts_rank 점수 가중치가 절반이 된다.
+ * @param maxQueryLength 검색어 최대 길이
+ */
+@ConfigurationProperties(prefix = "threads.search")
+public record SearchProperties(
+	@DefaultValue("24h") Duration recencyHalfLife,
+	@DefaultValue("200") int maxQueryLength
+) {
+}
@@ -0,0 +1,16 @@
+package com.imwoo.threads.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 요청당 SQL 문 수 집계 설정
+ * @param enabled 집계 Filter 등록 여부
+ * @param budget 요청당 허용 SQL 문 수 ( 초과 시 경고 로그 )
+ */
+@ConfigurationProperties(prefix = "threads.statement-count")
+public record StatementCountProperties(
+	@DefaultValue("true") boolean enabled,
+	@DefaultValue("10") int budget
+) {
+}
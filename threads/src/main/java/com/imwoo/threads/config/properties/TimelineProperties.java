@@ -0,0 +1,62 @@
+package com.imwoo.threads.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 홈 타임라인 Fan-out 설정
+ * @param inboxMaxSize 사용자별 Inbox 최대 보관 건수
+ * @param fanOut 백그라운드 Fan-out 작업 설정
+ * @param hybrid 고팔로워 작성자 Fan-out-on-read 설정
+ * @param trim Inbox 주기 정리 설정
+ */
+@ConfigurationProperties(prefix = "threads.timeline")
+public record TimelineProperties(
+	@DefaultValue("800") int inboxMaxSize,
+	@DefaultValue FanOut fanOut,
+	@DefaultValue Hybrid hybrid,
+	@DefaultValue Trim trim
+) {
+
+	/**
+	 * @param batchSize 한번에 조회, 적재할 팔로워 수
+	 * @param corePoolSize Fan-out 워커 기본 스레드 수
+	 * @param maxPoolSize Fan-out 워커 최대 스레드 수
+	 * @param queueCapacity 대기 가능한 Fan-out 작업 수 ( 초과 시 요청 스레드에서 직접 처리 )
+	 */
+	public record FanOut(
+		@DefaultValue("500") int batchSize,
+		@DefaultValue("4") int corePoolSize,
+		@DefaultValue("8") int maxPoolSize,
+		@DefaultValue("10000") int queueCapacity
+	) {
+	}
+
+	/**
+	 * @param highFollowerThreshold 팔로워 수가 이 값을 넘는 작성자는 Inbox Fan-out 대상에서 제외
+	 * @param recentPostsPerAuthor 작성자별 최근 Post 캐시 보관 건수
+	 * @param recentPostCacheMaxAuthors 최근 Post 캐시에 보관할 최대 작성자 수
+	 * @param recentPostCacheTtl 최근 Post 캐시 만료 시간
+	 */
+	public record Hybrid(
+		@DefaultValue("10000") long highFollowerThreshold,
+		@DefaultValue("50") int recentPostsPerAuthor,
+		@DefaultValue("10000") long recentPostCacheMaxAuthors,
+		@DefaultValue("60s") Duration recentPostCacheTtl
+	) {
+	}
+
+	/**
+	 * 조회는 inboxMaxSize 이내 범위만 읽으므로 적재마다 정리하지 않고,
+	 * 주기적으로 highWaterMark 를 넘은 사용자만 inboxMaxSize 건으로 정리한다.
+	 * @param highWaterMark 정리 대상이 되는 Inbox 건수 ( inboxMaxSize 보다 커야 함 )
+	 * @param interval 정리 주기
+	 */
+	public record Trim(
+		@DefaultValue("1000") int highWaterMark,
+		@DefaultValue("5m") Duration interval
+	) {
+	}
+}
@@ -0,0 +1,20 @@
+package com.imwoo.threads.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 사용자 검색 설정
+ * @param maxResults 검색 결과 최대 건수 ( 유사도 순 )
+ * @param autocompleteMaxResults 자동완성 결과 최대 건수 ( 사전 순 )
+ * @param indexRefreshInterval 자동완성 인덱스 전체 재적재 주기 ( 다른 노드의 가입 / 삭제 반영 )
+ */
+@ConfigurationProperties(prefix = "threads.user-search")
+public record UserSearchProperties(
+	@DefaultValue("20") int maxResults,
+	@DefaultValue("10") int autocompleteMaxResults,
+	@DefaultValue("10m") Duration indexRefreshInterval
+) {
+}
@@ -0,0 +1,16 @@
+package com.imwoo.threads.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Virtual Thread 실행 모드 진단 설정
+ * @param pinnedThreshold 이 시간 이상 Carrier Thread 에 고정 ( pinning ) 된 경우만 기록
+ */
+@ConfigurationProperties(prefix = "threads.virtual-thread")
+public record VirtualThreadProperties(
+	@DefaultValue("20ms") Duration pinnedThreshold
+) {
+}
@@ -0,0 +1,50 @@
+package com.imwoo.threads.controller;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * NDJSON ( 한 줄에 JSON 하나 ) 스트리밍 응답
+ * source 가 한 건씩 넘겨주는 대로 바로 직렬화해서 쓰므로 전체 목록을 메모리에 올리지 않는다.
+ * StreamingResponseBody 는 MVC 비동기 스레드 ( applicationTaskExecutor ) 에서 실행되므로
+ * source 는 OSIV 없이 Keyset 청크 단위로 짧게 조회하고, 쓰는 동안에는 커넥션을 잡지 않아야 한다.
+ *
+ * Content-Length 가 없으므로 chunked 로 전송되고, 첫 건과 FLUSH_INTERVAL 건마다 flush 해서 첫 바이트를 바로 보낸다.
+ * 클라이언트가 느리면 소켓 write 가 블로킹되어 다음 청크 조회도 그만큼 늦어진다. ( backpressure )
+ */
+final class NdjsonStreams {
+
+	private static final byte LINE_SEPARATOR = '\n';
+	private static final int FLUSH_INTERVAL = 100;
+
+	private NdjsonStreams() {
+	}
+
+	static <T> StreamingResponseBody of(ObjectMapper objectMapper, Consumer<Consumer<T>> source) {
+		return outputStream -> {
+			var written = new AtomicInteger();
+			try {
+				source.accept(item -> {
+					try {
+						outputStream.write(objectMapper.writeValueAsBytes(item));
+						outputStream.write(LINE_SEPARATOR);
+						if (written.getAndIncrement() % FLUSH_INTERVAL == 0) {
+							outputStream.flush();
+						}
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+			outputStream.flush();
+		};
+	}
+}
@@ -11,57 +11,88 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.imwoo.threads.model.entity.UserEntity;
+import com.imwoo.threads.model.page.CursorPageResponse;
+import com.imwoo.threads.model.post.request.PostBatchCreateRequest;
 import com.imwoo.threads.model.post.request.PostCreateRequest;
+import com.imwoo.threads.model.post.request.PostMultiGetRequest;
 import com.imwoo.threads.model.post.request.PostUpdateRequest;
+import com.imwoo.threads.model.post.response.PostLookupResponse;
 import com.imwoo.threads.model.post.response.PostResponse;
+import com.imwoo.threads.model.user.UserPrincipal;
+import com.imwoo.threads.service.PostSearchService;
 import com.imwoo.threads.service.PostService;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/posts")
-@Slf4j
 public class PostController {
 
 	private final PostService postService;
+	private final PostSearchService postSearchService;
 
 	@GetMapping
-	public ResponseEntity<List<PostResponse>> getPosts() {
-		log.info("GET /api/v1/posts");
-		return ResponseEntity.ok(postService.getPosts());
+	public ResponseEntity<CursorPageResponse<PostResponse>> getPosts(
+		@RequestParam(required = false) String cursor,
+		@RequestParam(required = false) Integer size
+	) {
+		return ResponseEntity.ok(postService.getPosts(cursor, size));
+	}
+
+	@GetMapping("/search")
+	public ResponseEntity<CursorPageResponse<PostResponse>> searchPosts(
+		@RequestParam("q") String query,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(required = false) Integer size
+	) {
+		return ResponseEntity.ok(postSearchService.searchPosts(query, cursor, size));
 	}
 
 	@GetMapping("{postId}")
 	public ResponseEntity<PostResponse> getPostByPostId(
 		@PathVariable("postId") Long postId
 	) {
-		log.info("GET /api/v1/posts/{}", postId);
 		return ResponseEntity.ok(postService.getPostByPostId(postId));
 	}
 
+	// POST /posts/_mget : 캐시된 식별자 목록을 한 번의 요청, 한 번의 쿼리로 조회
+	@PostMapping("/_mget")
+	public ResponseEntity<List<PostLookupResponse>> getPostsByPostIds(
+		@Valid @RequestBody PostMultiGetRequest postMultiGetRequest
+	) {
+		return ResponseEntity.ok(postService.getPostsByPostIds(postMultiGetRequest));
+	}
+
 	@PostMapping
 	public ResponseEntity<PostResponse> createPost(
 		@RequestBody PostCreateRequest postCreateRequest,
 		Authentication authentication
 	) {
-		log.info("POST /api/v1/posts request body : {}", postCreateRequest);
-		var post = postService.createPost(postCreateRequest, (UserEntity)authentication.getPrincipal());
+		var post = postService.createPost(postCreateRequest, (UserPrincipal)authentication.getPrincipal());
 		return ResponseEntity.ok(post);
 	}
 
+	@PostMapping("/batch")
+	public ResponseEntity<List<PostResponse>> createPosts(
+		@Valid @RequestBody PostBatchCreateRequest postBatchCreateRequest,
+		Authentication authentication
+	) {
+		var posts = postService.createPosts(postBatchCreateRequest, (UserPrincipal)authentication.getPrincipal());
+		return ResponseEntity.ok(posts);
+	}
+
 	@PatchMapping("/{postId}")
 	public ResponseEntity<PostResponse> updatePost(
 		@PathVariable Long postId,
 		@RequestBody PostUpdateRequest postUpdateRequest,
 		Authentication authentication
 	) {
-		log.info("PATCH /api/v1/posts/{} request body : {}", postId, postUpdateRequest);
-		var post = postService.updatePost(postId, postUpdateRequest, (UserEntity)authentication.getPrincipal());
+		var post = postService.updatePost(postId, postUpdateRequest, (UserPrincipal)authentication.getPrincipal());
 		return ResponseEntity.ok(post);
 	}
 
@@ -70,8 +101,7 @@ public class PostController {
 		@PathVariable Long postId,
 		Authentication authentication
 	) {
-		log.info("DELETE /api/v1/posts/{}", postId);
-		postService.deletePost(postId, (UserEntity)authentication.getPrincipal());
+		postService.deletePost(postId, (UserPrincipal)authentication.getPrincipal());
 		// NO_CONTENT(204, HttpStatus.Series.SUCCESSFUL, "No Content")
 		return ResponseEntity.noContent().build();
 	}
@@ -0,0 +1,33 @@
+package com.imwoo.threads.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.imwoo.threads.model.page.CursorPageResponse;
+import com.imwoo.threads.model.post.response.PostResponse;
+import com.imwoo.threads.model.user.UserPrincipal;
+import com.imwoo.threads.service.TimelineService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/timeline")
+public class TimelineController {
+
+	private final TimelineService timelineService;
+
+	@GetMapping
+	public ResponseEntity<CursorPageResponse<PostResponse>> getTimeline(
+		@RequestParam(required = false) String cursor,
+		@RequestParam(required = false) Integer size,
+		Authentication authentication
+	) {
+		var timeline = timelineService.getTimeline(cursor, size, (UserPrincipal)authentication.getPrincipal());
+		return ResponseEntity.ok(timeline);
+	}
+}
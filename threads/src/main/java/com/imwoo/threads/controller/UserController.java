@@ -2,8 +2,10 @@ package com.imwoo.threads.controller;
 
 import java.util.List;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,14 +14,18 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import com.imwoo.threads.model.entity.UserEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.imwoo.threads.model.page.CursorPageResponse;
 import com.imwoo.threads.model.post.response.PostResponse;
 import com.imwoo.threads.model.user.User;
+import com.imwoo.threads.model.user.UserPrincipal;
 import com.imwoo.threads.model.user.request.UserAuthenticateRequest;
 import com.imwoo.threads.model.user.request.UserSignUpRequest;
 import com.imwoo.threads.model.user.request.UserUpdateRequest;
 import com.imwoo.threads.model.user.response.UserAuthenticationResponse;
+import com.imwoo.threads.service.FollowService;
 import com.imwoo.threads.service.PostService;
 import com.imwoo.threads.service.UserService;
 
@@ -33,6 +39,8 @@ public class UserController {
 
 	private final UserService userService;
 	private final PostService postService;
+	private final FollowService followService;
+	private final ObjectMapper objectMapper;
 
 	@PostMapping
 	public ResponseEntity<User> signUp(@Valid @RequestBody UserSignUpRequest userSignUpRequest) {
@@ -55,13 +63,30 @@ public class UserController {
 	}
 
 	@GetMapping
-	public ResponseEntity<List<User>> getUsers(
-		@RequestParam(required = false) String query
+	public ResponseEntity<CursorPageResponse<User>> getUsers(
+		@RequestParam(required = false) String query,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(required = false) Integer size
 	) {
-		var users = userService.getUsers(query);
+		var users = userService.getUsers(query, cursor, size);
 		return ResponseEntity.ok(users);
 	}
 
+	// GET /users?format=ndjson : 전체 유저를 한 줄씩 스트리밍
+	@GetMapping(params = "format=ndjson", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamUsers() {
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.body(NdjsonStreams.of(objectMapper, userService::streamUsers));
+	}
+
+	@GetMapping("/autocomplete")
+	public ResponseEntity<List<String>> autocomplete(
+		@RequestParam String prefix
+	) {
+		return ResponseEntity.ok(userService.autocomplete(prefix));
+	}
+
 	@GetMapping("/{username}")
 	public ResponseEntity<User> getUser(
 		@PathVariable String username
@@ -75,7 +100,7 @@ public class UserController {
 		@RequestBody UserUpdateRequest userUpdateRequest,
 		Authentication authentication
 	) {
-		var user = userService.updateUser(username, userUpdateRequest, (UserEntity)authentication.getPrincipal());
+		var user = userService.updateUser(username, userUpdateRequest, (UserPrincipal)authentication.getPrincipal());
 		return ResponseEntity.ok(user);
 	}
 
@@ -86,4 +111,37 @@ public class UserController {
 	) {
 		return ResponseEntity.ok(postService.getPostsByUsername(username));
 	}
+
+	// GET /users/{username}/posts?format=ndjson : 게시글 전체를 한 줄씩 스트리밍 ( 내보내기 )
+	@GetMapping(value = "/{username}/posts", params = "format=ndjson", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamPostsByUsername(
+		@PathVariable String username
+	) {
+		// 스트리밍 시작 전에 사용자 존재 여부를 확인해야 404 로 응답할 수 있다.
+		var userId = userService.getUser(username).userId();
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.body(NdjsonStreams.<PostResponse>of(objectMapper,
+				consumer -> postService.streamPostsByUserId(userId, consumer)));
+	}
+
+	// POST /users/{username}/follows
+	@PostMapping("/{username}/follows")
+	public ResponseEntity<User> follow(
+		@PathVariable String username,
+		Authentication authentication
+	) {
+		var user = followService.follow(username, (UserPrincipal)authentication.getPrincipal());
+		return ResponseEntity.ok(user);
+	}
+
+	// DELETE /users/{username}/follows
+	@DeleteMapping("/{username}/follows")
+	public ResponseEntity<Void> unfollow(
+		@PathVariable String username,
+		Authentication authentication
+	) {
+		followService.unfollow(username, (UserPrincipal)authentication.getPrincipal());
+		return ResponseEntity.noContent().build();
+	}
 }
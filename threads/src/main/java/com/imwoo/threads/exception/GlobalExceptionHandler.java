@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.imwoo.threads.model.error.ClientErrorResponse;
+import com.imwoo.threads.model.error.ServerErrorResponse;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -20,6 +21,14 @@ public class GlobalExceptionHandler {
 		);
 	}
 
+	@ExceptionHandler({ServerErrorException.class})
+	public ResponseEntity<ServerErrorResponse> handleServerErrorException(ServerErrorException e) {
+		return new ResponseEntity<>(
+			new ServerErrorResponse(e.getHttpStatus(), e.getMessage()),
+			e.getHttpStatus()
+		);
+	}
+
 	@ExceptionHandler({MethodArgumentNotValidException.class})
 	public ResponseEntity<ClientErrorResponse> handleClientErrorException(MethodArgumentNotValidException e) {
 		return new ResponseEntity<>(
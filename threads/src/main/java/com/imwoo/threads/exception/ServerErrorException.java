@@ -0,0 +1,20 @@
+package com.imwoo.threads.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 요청은 올바르지만 서버 상태 ( 과부하, 의존 자원 장애 등 ) 로 처리하지 못한 경우 ( 5xx )
+ */
+public class ServerErrorException extends RuntimeException {
+
+	private final HttpStatus httpStatus;
+
+	public ServerErrorException(HttpStatus httpStatus, String message) {
+		super(message);
+		this.httpStatus = httpStatus;
+	}
+
+	public HttpStatus getHttpStatus() {
+		return httpStatus;
+	}
+}
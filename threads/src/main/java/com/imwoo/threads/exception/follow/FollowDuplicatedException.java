@@ -0,0 +1,17 @@
+package com.imwoo.threads.exception.follow;
+
+import org.springframework.http.HttpStatus;
+
+import com.imwoo.threads.exception.ClientErrorException;
+
+public class FollowDuplicatedException extends ClientErrorException {
+
+	public FollowDuplicatedException() {
+		super(HttpStatus.BAD_REQUEST, "Follow Already Exists");
+	}
+
+	public FollowDuplicatedException(String username) {
+		super(HttpStatus.BAD_REQUEST, "Follow With Username " + username + " Already Exists");
+	}
+
+}
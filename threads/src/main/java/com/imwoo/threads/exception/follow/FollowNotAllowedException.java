@@ -0,0 +1,13 @@
+package com.imwoo.threads.exception.follow;
+
+import org.springframework.http.HttpStatus;
+
+import com.imwoo.threads.exception.ClientErrorException;
+
+public class FollowNotAllowedException extends ClientErrorException {
+
+	public FollowNotAllowedException() {
+		super(HttpStatus.BAD_REQUEST, "Follow Yourself Not Allowed");
+	}
+
+}
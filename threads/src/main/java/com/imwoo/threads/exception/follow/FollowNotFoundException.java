@@ -0,0 +1,17 @@
+package com.imwoo.threads.exception.follow;
+
+import org.springframework.http.HttpStatus;
+
+import com.imwoo.threads.exception.ClientErrorException;
+
+public class FollowNotFoundException extends ClientErrorException {
+
+	public FollowNotFoundException() {
+		super(HttpStatus.NOT_FOUND, "Follow Not Found");
+	}
+
+	public FollowNotFoundException(String username) {
+		super(HttpStatus.NOT_FOUND, "Follow With Username " + username + " Not Found");
+	}
+
+}
@@ -0,0 +1,16 @@
+package com.imwoo.threads.exception.page;
+
+import org.springframework.http.HttpStatus;
+
+import com.imwoo.threads.exception.ClientErrorException;
+
+public class InvalidCursorException extends ClientErrorException {
+
+	public InvalidCursorException() {
+		super(HttpStatus.BAD_REQUEST, "Invalid Cursor");
+	}
+
+	public InvalidCursorException(String cursor) {
+		super(HttpStatus.BAD_REQUEST, "Cursor " + cursor + " Is Invalid");
+	}
+}
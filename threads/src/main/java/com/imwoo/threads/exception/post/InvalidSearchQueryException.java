@@ -0,0 +1,16 @@
+package com.imwoo.threads.exception.post;
+
+import org.springframework.http.HttpStatus;
+
+import com.imwoo.threads.exception.ClientErrorException;
+
+public class InvalidSearchQueryException extends ClientErrorException {
+
+	public InvalidSearchQueryException() {
+		super(HttpStatus.BAD_REQUEST, "Search Query Is Required");
+	}
+
+	public InvalidSearchQueryException(int maxLength) {
+		super(HttpStatus.BAD_REQUEST, "Search Query Must Be At Most " + maxLength + " Characters");
+	}
+}
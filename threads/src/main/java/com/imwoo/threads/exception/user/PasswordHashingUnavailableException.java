@@ -0,0 +1,20 @@
+package com.imwoo.threads.exception.user;
+
+import org.springframework.http.HttpStatus;
+
+import com.imwoo.threads.exception.ServerErrorException;
+
+/**
+ * 해싱 워커, 큐 포화 또는 대기 시간 초과 ( 서버 과부하, 503 )
+ */
+public class PasswordHashingUnavailableException extends ServerErrorException {
+
+	public PasswordHashingUnavailableException() {
+		super(HttpStatus.SERVICE_UNAVAILABLE, "Too many authentication requests. Please retry later.");
+	}
+
+	public PasswordHashingUnavailableException(Throwable cause) {
+		this();
+		initCause(cause);
+	}
+}
@@ -0,0 +1,64 @@
+package com.imwoo.threads.filter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import com.imwoo.threads.config.properties.AccessLogProperties;
+import com.imwoo.threads.monitor.accesslog.AccessLogContext;
+import com.imwoo.threads.monitor.accesslog.AccessLogEntry;
+import com.imwoo.threads.monitor.accesslog.AccessLogSampler;
+import com.imwoo.threads.monitor.accesslog.AccessLogWriter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 샘플링된 요청만 Access Log 로 기록 ( 요청 스레드에서는 버퍼 적재만 수행 )
+ * 요청 본문은 maxBodyLength 까지만 캐싱하므로 큰 본문도 전체를 복사하지 않으며, 민감 경로는 본문을 기록하지 않는다.
+ */
+public class AccessLogFilter extends OncePerRequestFilter {
+
+	private final AccessLogWriter accessLogWriter;
+	private final AccessLogSampler accessLogSampler;
+	private final int maxBodyLength;
+
+	public AccessLogFilter(AccessLogProperties accessLogProperties, AccessLogWriter accessLogWriter) {
+		this.accessLogWriter = accessLogWriter;
+		this.accessLogSampler = new AccessLogSampler(accessLogProperties);
+		this.maxBodyLength = accessLogProperties.maxBodyLength();
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+		FilterChain filterChain) throws ServletException, IOException {
+		if (!accessLogSampler.sample(request.getRequestURI())) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		var cachingRequest = accessLogSampler.isBodyExcluded(request.getRequestURI())
+			? null
+			: new ContentCachingRequestWrapper(request, maxBodyLength);
+		var start = System.nanoTime();
+		AccessLogContext.start(request.getMethod(), request.getRequestURI());
+		try {
+			filterChain.doFilter(cachingRequest != null ? cachingRequest : request, response);
+		} finally {
+			AccessLogContext.clear();
+			var body = cachingRequest != null ? cachingRequest.getContentAsByteArray() : new byte[0];
+			accessLogWriter.offer(AccessLogEntry.access(
+				request.getMethod(),
+				request.getRequestURI(),
+				response.getStatus(),
+				(System.nanoTime() - start) / 1_000,
+				body.length == 0 ? null : new String(body, StandardCharsets.UTF_8),
+				body.length > 0 && request.getContentLengthLong() > maxBodyLength
+			));
+		}
+	}
+}
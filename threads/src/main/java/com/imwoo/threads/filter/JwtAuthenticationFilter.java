@@ -5,14 +5,20 @@ import java.io.IOException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ObjectUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.imwoo.threads.monitor.RequestTimers;
+import com.imwoo.threads.monitor.jfr.PrincipalLoadedEvent;
+import com.imwoo.threads.monitor.jfr.TokenVerifiedEvent;
 import com.imwoo.threads.service.JwtService;
 import com.imwoo.threads.service.UserService;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -31,10 +37,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	private final JwtService jwtService;
 	private final UserService userService;
 	private final String BEARER_PREFIX = "Bearer ";
+	private final String PRINCIPAL_LOOKUP_METRIC = "threads.auth.principal.lookup";
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
 		FilterChain filterChain) throws ServletException, IOException {
+		// 인증 단계 시간은 핸들러 매핑 이후 요청 URI 패턴 태그와 함께 기록
+		RequestTimers.start();
+		try {
+			authenticate(request);
+			filterChain.doFilter(request, response);
+		} finally {
+			RequestTimers.stop(StatementCountFilter.uriTemplate(request));
+		}
+	}
+
+	private void authenticate(HttpServletRequest request) {
 		// Header Authorization 가져오기
 		var authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
 		var securityContext = SecurityContextHolder.getContext();
@@ -45,8 +63,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		) {
 			// token 추출
 			var accessToken = authorization.substring(BEARER_PREFIX.length());
-			var username = jwtService.getUsername(accessToken);
-			var userDetails = userService.loadUserByUsername(username);
+			var userDetails = lookupPrincipal(accessToken);
 
 			var authenticationToken = new UsernamePasswordAuthenticationToken(userDetails, null,
 				userDetails.getAuthorities());
@@ -65,7 +82,64 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		 * 만약 ExceptionTranslationFilter가 AccessDeniedException을 감지했다면 해당 사용자가 익명 사용자 인지의 여부를 판별하고 만약 익명 사용자일 경우 동일하게 authenticationEntryPoint을 실행한다.
 		 * 만약 익명 사용자가 아닐 경우엔 AccessDeniedHandler을 위임하는데 기본 설정으로 AccessDeniedHandlerImpl을 사용하기때문에 추가 설정이 있지 않는 이상은 그냥 사용하면 된다.
 		 */
-		filterChain.doFilter(request, response);
+	}
+
+	/**
+	 * claims 모드는 검증된 Claims 로 Principal 생성, database 모드는 UserEntity 조회
+	 * WebMvcTest 슬라이스에도 등록되는 Filter 이므로 MeterRegistry 주입 대신
+	 * Spring Boot 가 바인딩하는 Metrics.globalRegistry 에 기록
+	 */
+	private UserDetails lookupPrincipal(String accessToken) {
+		var mode = jwtService.isClaimsPrincipalMode() ? "claims" : "database";
+		var start = System.nanoTime();
+		var outcome = "failure";
+		try {
+			var userDetails = "claims".equals(mode)
+				? verifyClaimsPrincipal(accessToken)
+				: loadDatabasePrincipal(accessToken);
+			outcome = "success";
+			return userDetails;
+		} finally {
+			RequestTimers.record(Metrics.globalRegistry, PRINCIPAL_LOOKUP_METRIC,
+				Tags.of("mode", mode, "outcome", outcome), System.nanoTime() - start);
+		}
+	}
 
+	// claims 모드는 토큰 검증 외 조회 단계가 없으므로 TokenVerified 이벤트만 기록
+	private UserDetails verifyClaimsPrincipal(String accessToken) {
+		var tokenEvent = new TokenVerifiedEvent();
+		tokenEvent.begin();
+		try {
+			var principal = jwtService.getPrincipal(accessToken);
+			tokenEvent.setSuccess(true);
+			return principal;
+		} finally {
+			tokenEvent.setMode("claims");
+			tokenEvent.commit();
+		}
+	}
+
+	private UserDetails loadDatabasePrincipal(String accessToken) {
+		var tokenEvent = new TokenVerifiedEvent();
+		tokenEvent.begin();
+		String username;
+		try {
+			username = jwtService.getUsername(accessToken);
+			tokenEvent.setSuccess(true);
+		} finally {
+			tokenEvent.setMode("database");
+			tokenEvent.commit();
+		}
+
+		var principalEvent = new PrincipalLoadedEvent();
+		principalEvent.begin();
+		try {
+			var userDetails = userService.loadUserByUsername(username);
+			principalEvent.setSuccess(true);
+			return userDetails;
+		} finally {
+			principalEvent.setUsername(username);
+			principalEvent.commit();
+		}
 	}
 }
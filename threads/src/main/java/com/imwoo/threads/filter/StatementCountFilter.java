@@ -0,0 +1,62 @@
+package com.imwoo.threads.filter;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.imwoo.threads.config.properties.StatementCountProperties;
+import com.imwoo.threads.monitor.StatementCounter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 단위 SQL 문 수 집계 ( N+1 감지 )
+ * Security Filter Chain 을 포함해서 감싸도록 가장 앞에 등록하며,
+ * http.server.requests.statements 분포 메트릭으로 기록하고 budget 을 넘으면 경고 로그를 남긴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class StatementCountFilter extends OncePerRequestFilter {
+
+	private final StatementCountProperties statementCountProperties;
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+		FilterChain filterChain) throws ServletException, IOException {
+		StatementCounter.start();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			var count = StatementCounter.stop();
+			var uri = uriTemplate(request);
+
+			DistributionSummary.builder("http.server.requests.statements")
+				.description("요청당 실행된 SQL 문 수")
+				.tag("method", request.getMethod())
+				.tag("uri", uri)
+				.publishPercentiles(0.5, 0.99)
+				.register(meterRegistry)
+				.record(count);
+
+			if (count > statementCountProperties.budget()) {
+				log.warn("SQL statement budget exceeded : {} {} executed {} statements (budget {})",
+					request.getMethod(), uri, count, statementCountProperties.budget());
+			}
+		}
+	}
+
+	// 메트릭 태그 폭증을 막기 위해 실제 경로 대신 매핑 패턴 사용 ( /api/v1/posts/{postId} )
+	static String uriTemplate(HttpServletRequest request) {
+		var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		return pattern != null ? pattern.toString() : "UNKNOWN";
+	}
+}
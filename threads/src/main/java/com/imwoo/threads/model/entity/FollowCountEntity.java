@@ -0,0 +1,29 @@
+package com.imwoo.threads.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 팔로워 수 ( 비정규화 )
+ * Fan-out 시점과 홈 타임라인 조회 시점에 고팔로워 작성자 여부를 COUNT(*) 없이 판단하기 위해 사용
+ * FollowService 의 팔로우, 언팔로우와 같은 트랜잭션에서 FollowCountEntityRepository 로 증감한다.
+ */
+@Entity
+@Table(name = "follow_count")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class FollowCountEntity {
+	@Id
+	private Long userId;
+
+	@Column(nullable = false)
+	private long followerCount;
+}
@@ -0,0 +1,66 @@
+package com.imwoo.threads.model.entity;
+
+import java.time.ZonedDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "follow"
+	, indexes = {
+	// 팔로잉 목록 조회 및 중복 팔로우 방지
+	@Index(name = "follow_followerid_followingid_idx", columnList = "followerId, followingId", unique = true),
+	// Fan-out 대상 팔로워 Keyset 조회
+	@Index(name = "follow_followingid_followerid_idx", columnList = "followingId, followerId")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class FollowEntity {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long followId;
+
+	// 팔로우 요청한 사용자
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "followerId", nullable = false, foreignKey = @ForeignKey(name = "fk_follow_follower_to_user"))
+	private UserEntity follower;
+
+	// 팔로우 대상 사용자
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "followingId", nullable = false, foreignKey = @ForeignKey(name = "fk_follow_following_to_user"))
+	private UserEntity following;
+
+	@Column(nullable = false, updatable = false)
+	@CreatedDate
+	private ZonedDateTime createdDateTime;
+
+	public static FollowEntity of(UserEntity follower, UserEntity following) {
+		FollowEntity follow = new FollowEntity();
+		follow.follower = follower;
+		follow.following = following;
+		return follow;
+	}
+
+	@PrePersist
+	private void prePersist() {
+		this.createdDateTime = ZonedDateTime.now();
+	}
+}
@@ -7,12 +7,12 @@ import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 
+import com.imwoo.threads.model.entity.id.SnowflakeId;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -27,7 +27,10 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "post"
-	, indexes = {@Index(name = "post_userid_idx", columnList = "userId")})
+	, indexes = {
+	// 작성자 Post Keyset 조회용 ( 전체 Post Keyset 조회는 PK 인덱스 역순 탐색 )
+	@Index(name = "post_userid_postid_idx", columnList = "userId, postId DESC")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -42,7 +45,9 @@ import lombok.NoArgsConstructor;
 @SQLRestriction("deletedDateTime IS NULL")
 public class PostEntity {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	// 노드별 시간 순서 Snowflake 식별자 ( DB 왕복 없이 insert 전 할당되어 JDBC batch 유지 )
+	// postId 대소가 작성 순서와 같으므로 Keyset 페이지는 postId 만으로 처리
+	@SnowflakeId
 	private Long postId;
 
 	@Column(columnDefinition = "TEXT")
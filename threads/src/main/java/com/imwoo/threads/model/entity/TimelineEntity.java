@@ -0,0 +1,53 @@
+package com.imwoo.threads.model.entity;
+
+import java.time.ZonedDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 홈 타임라인 Inbox (Fan-out-on-write)
+ * Post 작성 시점에 팔로워들의 Inbox 에 미리 적재해두고,
+ * 홈 피드 조회는 (userId, postId) 인덱스 범위 조회 한번으로 처리한다. ( postId 는 시간 순서 Snowflake 식별자 )
+ * 적재는 TimelineInboxRepository 의 JDBC batch insert 로만 이루어진다.
+ */
+@Entity
+@Table(name = "timeline"
+	, indexes = {
+	// 동일 Post 중복 적재 방지 ( Fan-out 재시도 시 ON CONFLICT DO NOTHING ) 겸 최신순 조회 인덱스
+	@Index(name = "timeline_userid_postid_idx", columnList = "userId, postId", unique = true)
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class TimelineEntity {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long timelineId;
+
+	// Inbox 소유 사용자
+	@Column(nullable = false)
+	private Long userId;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "postId", nullable = false, foreignKey = @ForeignKey(name = "fk_timeline_to_post"))
+	private PostEntity post;
+
+	// Post 작성 시각 복제 ( 정렬은 postId 로 처리 )
+	@Column(nullable = false, updatable = false)
+	private ZonedDateTime createdDateTime;
+}
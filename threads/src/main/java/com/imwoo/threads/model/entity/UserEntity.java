@@ -9,16 +9,21 @@ import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
+
+import com.imwoo.threads.cache.PrincipalCacheInvalidationListener;
+import com.imwoo.threads.cache.UsernameIndexListener;
+import com.imwoo.threads.model.user.UserPrincipal;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -40,16 +45,20 @@ import lombok.NoArgsConstructor;
 @SQLDelete(sql = "update user set deletedDateTime = CURRENT_TIMESTAMP where userId = ?")
 //@Where(clause = "deletedDateTime IS NULL")
 @SQLRestriction("deletedDateTime IS NULL")
+@EntityListeners({PrincipalCacheInvalidationListener.class, UsernameIndexListener.class})
 /**
  * Spring Security 에서 사용자 인증에 사용되는 User 정보를 담고 있는 UserDetails 를 상속
  * 별도의 UserDetails 를 적용하지 않으면 DaoAuthenticationProvider 에서 InMemoryUserDetailsManager 를 통해
  * org.springframework.security.core.userdetails.user 를 가져온다.
  * 사용자 정의된 UserDetails 를 사용할 수 있도록 userDetails 를 설정 상에서 변경 해주어야 한다.
  */
-public class UserEntity implements UserDetails {
+public class UserEntity implements UserPrincipal {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	// IDENTITY 는 insert 마다 키를 돌려받아야 해서 JDBC batch 가 불가능하므로 pooled sequence 사용
+	// allocationSize 만큼 식별자를 미리 할당받아 insert 50건당 nextval 1회
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+	@SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
 	private Long userId;
 
 	@Column(nullable = false)
@@ -116,21 +125,21 @@ public class UserEntity implements UserDetails {
 
 	@Override
 	public boolean isAccountNonExpired() {
-		return UserDetails.super.isAccountNonExpired();
+		return UserPrincipal.super.isAccountNonExpired();
 	}
 
 	@Override
 	public boolean isAccountNonLocked() {
-		return UserDetails.super.isAccountNonLocked();
+		return UserPrincipal.super.isAccountNonLocked();
 	}
 
 	@Override
 	public boolean isCredentialsNonExpired() {
-		return UserDetails.super.isCredentialsNonExpired();
+		return UserPrincipal.super.isCredentialsNonExpired();
 	}
 
 	@Override
 	public boolean isEnabled() {
-		return UserDetails.super.isEnabled();
+		return UserPrincipal.super.isEnabled();
 	}
 }
@@ -0,0 +1,86 @@
+package com.imwoo.threads.model.entity.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순서 64bit 식별자 생성기 ( Snowflake )
+ * [ 부호 1bit | epoch 이후 ms 41bit | nodeId 10bit | sequence 12bit ]
+ * 노드별로 독립적으로 발급하므로 DB 왕복 없이 생성되며, 값의 대소가 생성 시각 순서와 같다.
+ *
+ * 마지막 발급 상태 ( timestamp, sequence ) 를 AtomicLong 하나에 담아 CAS 로 갱신 ( lock-free )
+ * - 같은 ms 에 sequence 가 소진되면 다음 ms 를 미리 사용하고,
+ * - 시계가 뒤로 돌아가면 마지막 발급 timestamp 를 계속 사용해서 값이 감소하지 않도록 한다.
+ * 미리 사용한 시간이 maxClockBackwardMillis 를 넘으면 중복 위험 대신 예외로 중단한다.
+ */
+public class SnowflakeIdGenerator {
+
+	static final int NODE_ID_BITS = 10;
+	static final int SEQUENCE_BITS = 12;
+	static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+	static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+	// 2024-01-01T00:00:00Z, 41bit ms 로 약 69년 사용 가능
+	public static final Instant DEFAULT_EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+
+	private final long epochMillis;
+	private final long nodeId;
+	private final long maxClockBackwardMillis;
+	private final LongSupplier clock;
+	// ( timestamp << SEQUENCE_BITS ) | sequence
+	private final AtomicLong lastState = new AtomicLong();
+
+	public SnowflakeIdGenerator(long nodeId, Instant epoch, long maxClockBackwardMillis) {
+		this(nodeId, epoch, maxClockBackwardMillis, System::currentTimeMillis);
+	}
+
+	SnowflakeIdGenerator(long nodeId, Instant epoch, long maxClockBackwardMillis, LongSupplier clock) {
+		if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+			throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID + " : " + nodeId);
+		}
+		this.epochMillis = epoch.toEpochMilli();
+		this.nodeId = nodeId;
+		this.maxClockBackwardMillis = maxClockBackwardMillis;
+		this.clock = clock;
+	}
+
+	public long nextId() {
+		while (true) {
+			var last = lastState.get();
+			var lastTimestamp = last >>> SEQUENCE_BITS;
+			var now = clock.getAsLong() - epochMillis;
+
+			long timestamp;
+			long sequence;
+			if (now > lastTimestamp) {
+				timestamp = now;
+				sequence = 0;
+			} else {
+				// 같은 ms 이거나 시계가 뒤로 돌아간 경우
+				if (lastTimestamp - now > maxClockBackwardMillis) {
+					throw new IllegalStateException(
+						"Clock moved backwards by " + (lastTimestamp - now) + "ms, refusing to generate id");
+				}
+				var lastSequence = last & MAX_SEQUENCE;
+				if (lastSequence < MAX_SEQUENCE) {
+					timestamp = lastTimestamp;
+					sequence = lastSequence + 1;
+				} else {
+					timestamp = lastTimestamp + 1;
+					sequence = 0;
+				}
+			}
+
+			var next = (timestamp << SEQUENCE_BITS) | sequence;
+			if (lastState.compareAndSet(last, next)) {
+				return (timestamp << (NODE_ID_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+			}
+		}
+	}
+
+	// 식별자에 담긴 생성 시각 ( 디버깅, 샤딩 범위 계산용 )
+	public Instant timestampOf(long id) {
+		return Instant.ofEpochMilli((id >>> (NODE_ID_BITS + SEQUENCE_BITS)) + epochMillis);
+	}
+}
@@ -0,0 +1,53 @@
+package com.imwoo.threads.model.entity.id;
+
+import java.lang.reflect.Member;
+import java.time.Instant;
+import java.util.EnumSet;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+/**
+ * @SnowflakeId Hibernate 식별자 생성기
+ * Hibernate 가 직접 생성하므로 설정은 spring.jpa.properties 로 전달받는다. ( threads.id 참조 )
+ * 엔티티별로 하나의 생성기가 만들어지며, 생성기 내부는 lock-free 로 동시 insert 에 안전하다.
+ */
+public class SnowflakeIdentifierGenerator implements BeforeExecutionGenerator {
+
+	static final String NODE_ID_SETTING = "threads.id.node_id";
+	static final String EPOCH_SETTING = "threads.id.epoch";
+	static final String MAX_CLOCK_BACKWARD_SETTING = "threads.id.max_clock_backward_millis";
+
+	private final SnowflakeIdGenerator snowflakeIdGenerator;
+
+	public SnowflakeIdentifierGenerator(SnowflakeId config, Member idMember,
+		CustomIdGeneratorCreationContext creationContext) {
+		var configurationService = creationContext.getServiceRegistry().getService(ConfigurationService.class);
+		// 노드 번호가 겹치면 같은 식별자가 발급될 수 있으므로 기본값 없이 설정을 강제
+		var nodeId = configurationService.getSetting(NODE_ID_SETTING, StandardConverters.INTEGER);
+		if (nodeId == null) {
+			throw new IllegalStateException(NODE_ID_SETTING + " must be set ( THREADS_NODE_ID )");
+		}
+		var epoch = configurationService.getSetting(EPOCH_SETTING, StandardConverters.STRING,
+			SnowflakeIdGenerator.DEFAULT_EPOCH.toString());
+		var maxClockBackwardMillis = configurationService.getSetting(MAX_CLOCK_BACKWARD_SETTING,
+			StandardConverters.INTEGER, 1000);
+		this.snowflakeIdGenerator = new SnowflakeIdGenerator(nodeId, Instant.parse(epoch), maxClockBackwardMillis);
+	}
+
+	@Override
+	public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+		EventType eventType) {
+		return snowflakeIdGenerator.nextId();
+	}
+
+	@Override
+	public EnumSet<EventType> getEventTypes() {
+		return EventTypeSets.INSERT_ONLY;
+	}
+}
@@ -0,0 +1,39 @@
+package com.imwoo.threads.model.page;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset(Cursor) 기반 페이지 응답
+ * OFFSET, COUNT(*) 없이 마지막 항목의 정렬 키를 next 커서로 전달한다.
+ * next 가 null 이면 마지막 페이지
+ */
+public record CursorPageResponse<T>(
+	List<T> items,
+	String next
+) {
+
+	public static final int DEFAULT_SIZE = 20;
+	public static final int MAX_SIZE = 100;
+
+	/**
+	 * 요청 페이지 크기를 1 ~ MAX_SIZE 범위로 제한
+	 */
+	public static int boundedSize(Integer size) {
+		if (size == null || size < 1) {
+			return DEFAULT_SIZE;
+		}
+		return Math.min(size, MAX_SIZE);
+	}
+
+	/**
+	 * 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 size + 1 건을 조회한 결과를 받는다.
+	 */
+	public static <T> CursorPageResponse<T> of(List<T> fetched, int size, Function<T, String> cursorExtractor) {
+		if (fetched.size() <= size) {
+			return new CursorPageResponse<>(fetched, null);
+		}
+		var items = fetched.subList(0, size);
+		return new CursorPageResponse<>(List.copyOf(items), cursorExtractor.apply(items.get(size - 1)));
+	}
+}
@@ -0,0 +1,33 @@
+package com.imwoo.threads.model.post;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.imwoo.threads.exception.page.InvalidCursorException;
+import com.imwoo.threads.model.post.response.PostResponse;
+
+/**
+ * Post 목록 Keyset 페이지 커서 (postId)
+ * postId 는 시간 순서 Snowflake 식별자이므로 작성 시각 없이 식별자만으로 순서가 결정된다.
+ * 클라이언트에는 내부 구조가 드러나지 않도록 Base64 URL-safe 문자열로 전달
+ */
+public record PostCursor(Long postId) {
+
+	public static PostCursor from(PostResponse postResponse) {
+		return new PostCursor(postResponse.postId());
+	}
+
+	public static PostCursor decode(String cursor) {
+		try {
+			var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			return new PostCursor(Long.parseLong(decoded));
+		} catch (IllegalArgumentException e) {
+			throw new InvalidCursorException(cursor);
+		}
+	}
+
+	public String encode() {
+		return Base64.getUrlEncoder().withoutPadding()
+			.encodeToString(String.valueOf(postId).getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,41 @@
+package com.imwoo.threads.model.post;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+import com.imwoo.threads.exception.page.InvalidCursorException;
+
+/**
+ * Post 검색 Keyset 페이지 커서 (asOf, score, postId)
+ * 최신성 가중치는 기준 시각에 따라 달라지므로 첫 페이지 조회 시각 ( asOf ) 을 함께 전달해서
+ * 다음 페이지에서도 같은 점수로 정렬되도록 한다.
+ */
+public record PostSearchCursor(Instant asOf, double score, Long postId) {
+
+	private static final String DELIMITER = ":";
+
+	public static PostSearchCursor from(Instant asOf, PostSearchHit hit) {
+		return new PostSearchCursor(asOf, hit.score(), hit.post().postId());
+	}
+
+	public static PostSearchCursor decode(String cursor) {
+		try {
+			var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			var parts = decoded.split(DELIMITER);
+			if (parts.length != 3) {
+				throw new InvalidCursorException(cursor);
+			}
+			return new PostSearchCursor(Instant.ofEpochMilli(Long.parseLong(parts[0])),
+				Double.parseDouble(parts[1]), Long.parseLong(parts[2]));
+		} catch (IllegalArgumentException | DateTimeException e) {
+			throw new InvalidCursorException(cursor);
+		}
+	}
+
+	public String encode() {
+		var raw = asOf.toEpochMilli() + DELIMITER + score + DELIMITER + postId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,9 @@
+package com.imwoo.threads.model.post;
+
+import com.imwoo.threads.model.post.response.PostResponse;
+
+/**
+ * 검색 결과 한 건과 정렬 점수 ( ts_rank x 최신성 가중치 )
+ */
+public record PostSearchHit(PostResponse post, double score) {
+}
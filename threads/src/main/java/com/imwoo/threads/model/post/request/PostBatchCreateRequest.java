@@ -0,0 +1,15 @@
+package com.imwoo.threads.model.post.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Post 일괄 생성 요청 ( hibernate.jdbc.batch_size 단위로 나뉘어 insert )
+ */
+public record PostBatchCreateRequest(
+	@NotEmpty @Size(max = PostBatchCreateRequest.MAX_SIZE) List<PostCreateRequest> posts
+) {
+	public static final int MAX_SIZE = 500;
+}
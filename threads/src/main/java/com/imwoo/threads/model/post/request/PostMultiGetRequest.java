@@ -0,0 +1,17 @@
+package com.imwoo.threads.model.post.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Post 다건 조회 요청 ( 단일 IN 쿼리로 조회, 응답은 요청 순서 유지 )
+ * 응답의 문자열 postId 를 그대로 보낼 수 있도록 숫자, 문자열 식별자 모두 허용 ( Jackson 문자열 → Long 변환 )
+ */
+public record PostMultiGetRequest(
+	@NotEmpty @Size(max = PostMultiGetRequest.MAX_SIZE) List<@NotNull Long> postIds
+) {
+	public static final int MAX_SIZE = 100;
+}
@@ -0,0 +1,25 @@
+package com.imwoo.threads.model.post.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Post 다건 조회 결과 항목
+ * 존재하지 않거나 삭제된 Post ( 작성자 탈퇴 포함 ) 는 found = false, post 생략
+ * postId 는 PostResponse 와 같이 문자열로 직렬화
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PostLookupResponse(
+	@JsonFormat(shape = JsonFormat.Shape.STRING) Long postId,
+	boolean found,
+	PostResponse post
+) {
+
+	public static PostLookupResponse found(PostResponse post) {
+		return new PostLookupResponse(post.postId(), true, post);
+	}
+
+	public static PostLookupResponse missing(Long postId) {
+		return new PostLookupResponse(postId, false, null);
+	}
+}
@@ -2,13 +2,17 @@ package com.imwoo.threads.model.post.response;
 
 import java.time.ZonedDateTime;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.imwoo.threads.model.entity.PostEntity;
 import com.imwoo.threads.model.user.User;
 
+/**
+ * postId 는 2^53 을 넘는 Snowflake 식별자이므로 JavaScript number 정밀도 손실을 막기 위해 문자열로 직렬화
+ */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public record PostResponse(
-	Long postId,
+	@JsonFormat(shape = JsonFormat.Shape.STRING) Long postId,
 	String body,
 	User user,
 	ZonedDateTime createdDateTime,
@@ -16,6 +20,33 @@ public record PostResponse(
 	ZonedDateTime deletedDateTime
 ) {
 
+	/**
+	 * JPQL 생성자 표현식 ( SELECT new ... ) 전용 생성자
+	 * 엔티티를 거치지 않고 Post, 작성자 컬럼을 바로 응답 레코드로 매핑한다.
+	 */
+	public PostResponse(
+		Long postId,
+		String body,
+		Long userId,
+		String username,
+		String profile,
+		String description,
+		ZonedDateTime userCreatedDateTime,
+		ZonedDateTime userUpdatedDateTime,
+		ZonedDateTime createdDateTime,
+		ZonedDateTime updatedDateTime,
+		ZonedDateTime deletedDateTime
+	) {
+		this(
+			postId,
+			body,
+			new User(userId, username, profile, description, userCreatedDateTime, userUpdatedDateTime),
+			createdDateTime,
+			updatedDateTime,
+			deletedDateTime
+		);
+	}
+
 	public static PostResponse from(PostEntity postEntity) {
 		return new PostResponse(
 			postEntity.getPostId(),
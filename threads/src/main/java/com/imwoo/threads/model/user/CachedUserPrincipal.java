@@ -0,0 +1,42 @@
+package com.imwoo.threads.model.user;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import com.imwoo.threads.model.entity.UserEntity;
+
+/**
+ * Principal 캐시에 보관하는 불변 Principal ( principal-mode : database )
+ * 요청 간에 공유되므로 변경 가능한 UserEntity 대신 식별 정보만 복사하고, password 해시는 보관하지 않는다.
+ */
+public record CachedUserPrincipal(
+	Long userId,
+	String username
+) implements UserPrincipal {
+
+	public static CachedUserPrincipal from(UserEntity userEntity) {
+		return new CachedUserPrincipal(userEntity.getUserId(), userEntity.getUsername());
+	}
+
+	@Override
+	public Long getUserId() {
+		return userId;
+	}
+
+	@Override
+	public String getUsername() {
+		return username;
+	}
+
+	@Override
+	public String getPassword() {
+		return null;
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return List.of();
+	}
+}
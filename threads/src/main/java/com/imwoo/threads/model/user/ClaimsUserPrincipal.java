@@ -0,0 +1,37 @@
+package com.imwoo.threads.model.user;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * 검증된 JWT Claims 로 생성하는 불변 Principal ( principal-mode : claims )
+ * 요청마다 사용자 테이블을 조회하지 않으며, password 는 보관하지 않는다.
+ */
+public record ClaimsUserPrincipal(
+	Long userId,
+	String username
+) implements UserPrincipal {
+
+	@Override
+	public Long getUserId() {
+		return userId;
+	}
+
+	@Override
+	public String getUsername() {
+		return username;
+	}
+
+	@Override
+	public String getPassword() {
+		return null;
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		// 역할 구분이 없어 권한은 비어 있다. 인가는 인증 여부와 작성자 ( userId ) 확인으로 처리
+		return List.of();
+	}
+}
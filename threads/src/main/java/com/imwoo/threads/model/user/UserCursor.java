@@ -0,0 +1,31 @@
+package com.imwoo.threads.model.user;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.imwoo.threads.exception.page.InvalidCursorException;
+
+/**
+ * 사용자 목록 Keyset 페이지 커서 (userId)
+ * 클라이언트에는 내부 구조가 드러나지 않도록 Base64 URL-safe 문자열로 전달
+ */
+public record UserCursor(Long userId) {
+
+	public static UserCursor from(User user) {
+		return new UserCursor(user.userId());
+	}
+
+	public static UserCursor decode(String cursor) {
+		try {
+			var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			return new UserCursor(Long.parseLong(decoded));
+		} catch (IllegalArgumentException e) {
+			throw new InvalidCursorException(cursor);
+		}
+	}
+
+	public String encode() {
+		return Base64.getUrlEncoder().withoutPadding()
+			.encodeToString(String.valueOf(userId).getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,13 @@
+package com.imwoo.threads.model.user;
+
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * 인증된 사용자 Principal
+ * principal-mode 에 따라 CachedUserPrincipal ( database ) 또는 ClaimsUserPrincipal ( claims ) 가 사용된다.
+ * 서비스에서는 사용자 식별을 userId 로만 처리한다.
+ */
+public interface UserPrincipal extends UserDetails {
+
+	Long getUserId();
+}
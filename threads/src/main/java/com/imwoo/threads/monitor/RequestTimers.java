@@ -0,0 +1,58 @@
+package com.imwoo.threads.monitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 요청 처리 중 측정한 시간을 요청 URI 패턴 ( uri 태그 ) 과 함께 기록
+ * 인증 단계 ( 토큰 검증, Principal 조회 ) 는 핸들러 매핑 전인 Security Filter Chain 에서 실행되어 측정 시점에는 URI 패턴을 알 수 없다.
+ * JwtAuthenticationFilter 가 요청 단위로 start / stop 하고, stop 시점 ( 핸들러 매핑 이후 ) 에 uri 태그를 붙여 기록한다.
+ * 시작되지 않은 스레드 ( 단위 테스트, 벤치마크 ) 에서는 uri=NONE 으로 바로 기록한다. ( 같은 이름의 태그 키 유지 )
+ */
+public final class RequestTimers {
+
+	public static final String URI_TAG = "uri";
+	static final String NO_REQUEST = "NONE";
+
+	private static final ThreadLocal<List<PendingTimer>> PENDING = new ThreadLocal<>();
+
+	private RequestTimers() {
+	}
+
+	public static void start() {
+		PENDING.set(new ArrayList<>());
+	}
+
+	public static void record(MeterRegistry meterRegistry, String name, Tags tags, long nanos) {
+		var pending = PENDING.get();
+		if (pending == null) {
+			register(meterRegistry, name, tags.and(URI_TAG, NO_REQUEST)).record(nanos, TimeUnit.NANOSECONDS);
+			return;
+		}
+		pending.add(new PendingTimer(meterRegistry, name, tags, nanos));
+	}
+
+	public static void stop(String uri) {
+		var pending = PENDING.get();
+		PENDING.remove();
+		if (pending == null) {
+			return;
+		}
+		for (var timer : pending) {
+			register(timer.meterRegistry(), timer.name(), timer.tags().and(URI_TAG, uri))
+				.record(timer.nanos(), TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private static Timer register(MeterRegistry meterRegistry, String name, Tags tags) {
+		return Timer.builder(name).tags(tags).register(meterRegistry);
+	}
+
+	private record PendingTimer(MeterRegistry meterRegistry, String name, Tags tags, long nanos) {
+	}
+}
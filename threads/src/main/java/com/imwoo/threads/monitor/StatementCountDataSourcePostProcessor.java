@@ -0,0 +1,20 @@
+package com.imwoo.threads.monitor;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * DataSource Bean 을 StatementCountingDataSource 로 감싼다.
+ * JPA, JdbcTemplate 모두 감싼 DataSource 를 주입받으므로 요청 단위 SQL 문 수에 함께 집계된다.
+ */
+public class StatementCountDataSourcePostProcessor implements BeanPostProcessor {
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+			return new StatementCountingDataSource(dataSource);
+		}
+		return bean;
+	}
+}
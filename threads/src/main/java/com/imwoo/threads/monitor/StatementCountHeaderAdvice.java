@@ -0,0 +1,35 @@
+package com.imwoo.threads.monitor;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문 작성 직전까지 실행된 SQL 문 수를 응답 헤더로 노출
+ * 본문 작성 이후에는 헤더를 추가할 수 없으므로 Filter 가 아닌 ResponseBodyAdvice 에서 처리
+ */
+@ControllerAdvice
+public class StatementCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+	public static final String STATEMENT_COUNT_HEADER = "X-Statement-Count";
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+		Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+		ServerHttpResponse response) {
+		var count = StatementCounter.current();
+		if (count >= 0) {
+			response.getHeaders().set(STATEMENT_COUNT_HEADER, String.valueOf(count));
+		}
+		return body;
+	}
+}
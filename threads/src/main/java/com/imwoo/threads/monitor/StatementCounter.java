@@ -0,0 +1,37 @@
+package com.imwoo.threads.monitor;
+
+/**
+ * 현재 스레드 ( HTTP 요청 ) 에서 실행된 SQL 문 수
+ * StatementCountFilter 가 요청 단위로 start / stop 하고, StatementCountingDataSource 가 JDBC Statement 실행마다 increment 한다.
+ * 시작되지 않은 스레드 ( @Async 작업 등 ) 에서는 집계하지 않는다.
+ */
+public final class StatementCounter {
+
+	private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+	private StatementCounter() {
+	}
+
+	public static void start() {
+		COUNT.set(new int[1]);
+	}
+
+	static void increment() {
+		var count = COUNT.get();
+		if (count != null) {
+			count[0]++;
+		}
+	}
+
+	// 집계 중이 아니면 -1
+	public static int current() {
+		var count = COUNT.get();
+		return count == null ? -1 : count[0];
+	}
+
+	public static int stop() {
+		var count = current();
+		COUNT.remove();
+		return count;
+	}
+}
@@ -0,0 +1,78 @@
+package com.imwoo.threads.monitor;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.BiFunction;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * JDBC 실행 단위 SQL 문 수 집계 ( SQL 은 변경하지 않음 )
+ * Hibernate 뿐 아니라 JdbcTemplate 으로 직접 실행하는 SQL ( 검색, 타임라인 Inbox ) 도 같은 커넥션 풀을 거치므로 함께 집계된다.
+ * Statement 의 execute* 호출마다 1회 집계하므로 JDBC batch ( executeBatch ) 는 묶음당 1회로 집계된다. ( DB 왕복 기준 )
+ * 커넥션 풀 내부의 검증 쿼리는 풀 안쪽에서 실행되므로 집계되지 않는다.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+	public StatementCountingDataSource(DataSource targetDataSource) {
+		super(targetDataSource);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return countingConnection(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return countingConnection(super.getConnection(username, password));
+	}
+
+	private static Connection countingConnection(Connection connection) {
+		return proxy(Connection.class, connection, (method, result) -> {
+			// createStatement, prepareStatement, prepareCall 이 반환한 Statement 를 감싼다.
+			if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+				return countingStatement(statement, method.getReturnType());
+			}
+			return result;
+		});
+	}
+
+	private static Object countingStatement(Statement statement, Class<?> statementType) {
+		return proxy(statementType, statement, (method, result) -> result);
+	}
+
+	/**
+	 * equals, hashCode 는 프록시 기준으로 처리하고 ( 리소스 추적 Map 의 키로 사용됨 ), 나머지는 대상에 위임
+	 * Statement 의 execute* 호출은 위임 전에 집계한다.
+	 */
+	private static <T> T proxy(Class<T> type, Object target, BiFunction<Method, Object, Object> afterInvoke) {
+		InvocationHandler handler = (proxy, method, args) -> switch (method.getName()) {
+			case "equals" -> proxy == args[0];
+			case "hashCode" -> System.identityHashCode(proxy);
+			default -> {
+				if (target instanceof Statement && method.getName().startsWith("execute")) {
+					StatementCounter.increment();
+				}
+				yield afterInvoke.apply(method, invoke(target, method, args));
+			}
+		};
+		return type.cast(Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+			new Class<?>[] {type}, handler));
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.imwoo.threads.monitor;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.imwoo.threads.monitor.jfr.ResponseSerializedEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 응답 본문 JSON 직렬화 시간 측정
+ * Boot 기본 MappingJackson2HttpMessageConverter 를 대체하며, 응답 버퍼로의 쓰기까지 포함된다.
+ * ResponseBodyAdvice 는 직렬화 이전에 호출되므로 JFR ResponseSerialized 이벤트도 여기서 기록
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+	private final MeterRegistry meterRegistry;
+
+	public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+		super(objectMapper);
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+		throws IOException, HttpMessageNotWritableException {
+		var uri = uriTemplate();
+		var event = new ResponseSerializedEvent();
+		event.begin();
+		var sample = Timer.start(meterRegistry);
+		var outcome = "failure";
+		try {
+			super.writeInternal(object, type, outputMessage);
+			outcome = "success";
+		} finally {
+			sample.stop(Timer.builder("threads.http.serialization")
+				.description("응답 본문 JSON 직렬화 시간")
+				.tag("uri", uri)
+				.tag("outcome", outcome)
+				.register(meterRegistry));
+			if (event.shouldCommit()) {
+				event.setUri(uri);
+				event.setBodyType(object.getClass().getSimpleName());
+				event.setSuccess("success".equals(outcome));
+				event.commit();
+			}
+		}
+	}
+
+	// 메트릭 태그 폭증을 막기 위해 실제 경로 대신 매핑 패턴 사용
+	private static String uriTemplate() {
+		var requestAttributes = RequestContextHolder.getRequestAttributes();
+		if (requestAttributes == null) {
+			return "UNKNOWN";
+		}
+		var pattern = requestAttributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+			RequestAttributes.SCOPE_REQUEST);
+		return pattern != null ? pattern.toString() : "UNKNOWN";
+	}
+}
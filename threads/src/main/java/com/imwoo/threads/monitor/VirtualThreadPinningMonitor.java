@@ -0,0 +1,75 @@
+package com.imwoo.threads.monitor;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.imwoo.threads.config.properties.VirtualThreadProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Virtual Thread 실행 모드에서 Carrier Thread pinning 감지
+ * JFR jdk.VirtualThreadPinned 이벤트를 스트리밍으로 수신해서 jvm.threads.virtual.pinned 메트릭 ( 건수, 시간 ) 으로 노출하고,
+ * pinning 발생 위치를 확인할 수 있도록 최상단 스택 프레임을 함께 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+	static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	private final VirtualThreadProperties virtualThreadProperties;
+	private final Timer pinnedTimer;
+	private RecordingStream recordingStream;
+
+	public VirtualThreadPinningMonitor(VirtualThreadProperties virtualThreadProperties, MeterRegistry meterRegistry) {
+		this.virtualThreadProperties = virtualThreadProperties;
+		this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+			.description("Virtual Thread 가 Carrier Thread 에 고정된 시간")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public synchronized void start() {
+		recordingStream = new RecordingStream();
+		recordingStream.enable(PINNED_EVENT)
+			.withThreshold(virtualThreadProperties.pinnedThreshold())
+			.withStackTrace();
+		recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+		recordingStream.startAsync();
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (recordingStream != null) {
+			recordingStream.close();
+			recordingStream = null;
+		}
+	}
+
+	@Override
+	public synchronized boolean isRunning() {
+		return recordingStream != null;
+	}
+
+	private void onPinned(RecordedEvent event) {
+		pinnedTimer.record(event.getDuration());
+		log.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), topFrame(event));
+	}
+
+	private static String topFrame(RecordedEvent event) {
+		var stackTrace = event.getStackTrace();
+		if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+			return "unknown";
+		}
+		var frame = stackTrace.getFrames().getFirst();
+		return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+	}
+}
@@ -0,0 +1,29 @@
+package com.imwoo.threads.monitor.accesslog;
+
+/**
+ * 현재 요청 스레드가 샘플링 대상인지 보관 ( SQL 로그를 같은 샘플링 결정에 따르게 함 )
+ * AccessLogFilter 에서 설정 / 해제하며, 요청 밖 ( 비동기 Fan-out 등 ) 에서 실행된 SQL 은 기록하지 않는다.
+ */
+public final class AccessLogContext {
+
+	private static final ThreadLocal<SampledRequest> CURRENT = new ThreadLocal<>();
+
+	private AccessLogContext() {
+	}
+
+	public record SampledRequest(String method, String uri) {
+	}
+
+	public static void start(String method, String uri) {
+		CURRENT.set(new SampledRequest(method, uri));
+	}
+
+	// 샘플링 대상 요청이 아니면 null
+	public static SampledRequest current() {
+		return CURRENT.get();
+	}
+
+	public static void clear() {
+		CURRENT.remove();
+	}
+}
@@ -0,0 +1,35 @@
+package com.imwoo.threads.monitor.accesslog;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Access Log 한 줄 ( JSON 으로 기록 )
+ * type 이 access 이면 요청 단위, sql 이면 샘플링된 요청에서 실행된 SQL 문
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AccessLogEntry(
+	Instant timestamp,
+	String type,
+	String method,
+	String uri,
+	Integer status,
+	Long durationMicros,
+	String body,
+	Boolean truncated,
+	String sql
+) {
+
+	public static AccessLogEntry access(String method, String uri, int status, long durationMicros, String body,
+		boolean truncated) {
+		return new AccessLogEntry(Instant.now(), "access", method, uri, status, durationMicros, body, truncated,
+			null);
+	}
+
+	public static AccessLogEntry sql(String method, String uri, String sql, int maxLength) {
+		var truncated = sql.length() > maxLength;
+		return new AccessLogEntry(Instant.now(), "sql", method, uri, null, null, null, truncated,
+			truncated ? sql.substring(0, maxLength) : sql);
+	}
+}
@@ -0,0 +1,52 @@
+package com.imwoo.threads.monitor.accesslog;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.imwoo.threads.config.properties.AccessLogProperties;
+
+/**
+ * 경로 패턴별 샘플링 비율, 요청 본문 기록 제외 여부 결정
+ * 핸들러 매핑 전에 결정해야 SQL 로그도 같은 결정을 따를 수 있으므로 요청 경로로 직접 매칭한다.
+ */
+public class AccessLogSampler {
+
+	private record RouteRate(PathPattern pattern, double rate) {
+	}
+
+	private final List<RouteRate> routeRates;
+	private final List<PathPattern> bodyExcludedPatterns;
+	private final double defaultRate;
+
+	public AccessLogSampler(AccessLogProperties accessLogProperties) {
+		this.routeRates = accessLogProperties.routes().entrySet().stream()
+			.map(route -> new RouteRate(PathPatternParser.defaultInstance.parse(route.getKey()), route.getValue()))
+			.toList();
+		this.bodyExcludedPatterns = accessLogProperties.bodyExcludedRoutes().stream()
+			.map(PathPatternParser.defaultInstance::parse)
+			.toList();
+		this.defaultRate = accessLogProperties.defaultSampleRate();
+	}
+
+	public boolean isBodyExcluded(String path) {
+		var pathContainer = PathContainer.parsePath(path);
+		return bodyExcludedPatterns.stream().anyMatch(pattern -> pattern.matches(pathContainer));
+	}
+
+	public boolean sample(String path) {
+		var pathContainer = PathContainer.parsePath(path);
+		var rate = routeRates.stream()
+			.filter(routeRate -> routeRate.pattern().matches(pathContainer))
+			.mapToDouble(RouteRate::rate)
+			.findFirst()
+			.orElse(defaultRate);
+		if (rate >= 1.0) {
+			return true;
+		}
+		return rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate;
+	}
+}
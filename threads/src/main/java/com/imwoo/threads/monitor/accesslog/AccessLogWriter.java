@@ -0,0 +1,108 @@
+package com.imwoo.threads.monitor.accesslog;
+
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.imwoo.threads.config.properties.AccessLogProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 스레드는 고정 크기 버퍼에 적재만 하고, 전용 Writer 스레드가 JSON 직렬화 및 출력
+ * 버퍼가 가득 차면 요청 스레드를 막지 않고 버리며 threads.access-log.dropped 로 집계한다.
+ * 출력은 threads.access 로거로 하므로 logback 설정으로 별도 appender 지정이 가능하다.
+ */
+@Slf4j
+public class AccessLogWriter implements SmartLifecycle {
+
+	private static final Logger accessLog = LoggerFactory.getLogger("threads.access");
+	private static final int DRAIN_BATCH_SIZE = 256;
+
+	private final BlockingQueue<AccessLogEntry> buffer;
+	private final ObjectMapper objectMapper;
+	private final Counter droppedCounter;
+	private volatile boolean running;
+	private Thread writerThread;
+
+	public AccessLogWriter(AccessLogProperties accessLogProperties, ObjectMapper objectMapper,
+		MeterRegistry meterRegistry) {
+		this.buffer = new ArrayBlockingQueue<>(accessLogProperties.bufferSize());
+		this.objectMapper = objectMapper;
+		this.droppedCounter = Counter.builder("threads.access-log.dropped")
+			.description("버퍼 초과로 버려진 Access Log 수")
+			.register(meterRegistry);
+		Gauge.builder("threads.access-log.buffer.depth", buffer, BlockingQueue::size)
+			.description("출력 대기 중인 Access Log 수")
+			.register(meterRegistry);
+	}
+
+	public void offer(AccessLogEntry entry) {
+		if (!buffer.offer(entry)) {
+			droppedCounter.increment();
+		}
+	}
+
+	@Override
+	public synchronized void start() {
+		running = true;
+		writerThread = Thread.ofPlatform().name("access-log-writer").daemon().start(this::drain);
+	}
+
+	@Override
+	public synchronized void stop() {
+		running = false;
+		try {
+			writerThread.join(TimeUnit.SECONDS.toMillis(5));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	// 종료 요청 이후에도 버퍼에 남은 로그는 모두 출력
+	private void drain() {
+		var batch = new ArrayList<AccessLogEntry>(DRAIN_BATCH_SIZE);
+		while (running || !buffer.isEmpty()) {
+			try {
+				var first = buffer.poll(100, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				buffer.drainTo(batch, DRAIN_BATCH_SIZE - 1);
+				batch.forEach(this::write);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void write(AccessLogEntry entry) {
+		if (!accessLog.isInfoEnabled()) {
+			return;
+		}
+		try {
+			accessLog.info(objectMapper.writeValueAsString(entry));
+		} catch (JsonProcessingException e) {
+			log.warn("Access log serialization failed : {}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.imwoo.threads.monitor.accesslog;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 샘플링된 요청에서 실행된 SQL 을 Access Log 버퍼로 전달 ( show-sql 의 동기 stdout 출력 대체 )
+ * Hibernate 가 실행하는 SQL 만 기록한다. ( SQL 문 수 집계는 StatementCountingDataSource )
+ */
+@RequiredArgsConstructor
+public class SampledSqlLogInspector implements StatementInspector {
+
+	private final AccessLogWriter accessLogWriter;
+	private final int maxLength;
+
+	@Override
+	public String inspect(String sql) {
+		var sampledRequest = AccessLogContext.current();
+		if (sampledRequest != null) {
+			accessLogWriter.offer(
+				AccessLogEntry.sql(sampledRequest.method(), sampledRequest.uri(), sql, maxLength));
+		}
+		return sql;
+	}
+}
@@ -0,0 +1,119 @@
+package com.imwoo.threads.monitor.jfr;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import com.imwoo.threads.config.properties.JfrProperties;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 애플리케이션 JFR 레코딩 제어 endpoint ( 프로파일러 attach 없이 지연 구간 분석 )
+ * GET  /actuator/jfr        : 레코딩 상태
+ * POST /actuator/jfr/start  : 레코딩 시작
+ * POST /actuator/jfr/dump   : 레코딩 유지한 채로 현재까지 구간 dump
+ * POST /actuator/jfr/stop   : 레코딩 종료 후 dump
+ * 기본 노출 목록에서 제외하고 jfr 프로필의 loopback 관리 포트에서만 노출한다. ( application-jfr.yml )
+ */
+@Slf4j
+@Component
+@Endpoint(id = "jfr")
+@RequiredArgsConstructor
+public class JfrRecordingEndpoint {
+
+	private static final String RECORDING_NAME = "threads";
+	private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+		.withZone(ZoneOffset.UTC);
+
+	private final JfrProperties jfrProperties;
+	private Recording recording;
+
+	@ReadOperation
+	public synchronized Map<String, Object> status() {
+		var status = new LinkedHashMap<String, Object>();
+		status.put("state", recording == null ? RecordingState.CLOSED : recording.getState());
+		if (recording != null) {
+			status.put("settings", jfrProperties.settings());
+			status.put("startTime", recording.getStartTime());
+		}
+		return status;
+	}
+
+	@WriteOperation
+	public synchronized Map<String, Object> recording(@Selector String action) {
+		return switch (action) {
+			case "start" -> start();
+			case "dump" -> Map.of("file", dump(requireRunning()));
+			case "stop" -> stop();
+			default -> throw new InvalidEndpointRequestException("Unknown action : " + action,
+				"action must be one of start, dump, stop");
+		};
+	}
+
+	private Map<String, Object> start() {
+		if (recording != null && recording.getState() == RecordingState.RUNNING) {
+			return status();
+		}
+		try {
+			var configuration = Configuration.getConfiguration(jfrProperties.settings());
+			recording = new Recording(configuration);
+		} catch (IOException | ParseException e) {
+			throw new InvalidEndpointRequestException("Unknown JFR settings : " + jfrProperties.settings(),
+				"threads.jfr.settings must be a JDK configuration name ( default, profile )");
+		}
+		recording.setName(RECORDING_NAME);
+		recording.setMaxAge(jfrProperties.maxAge());
+		recording.setMaxSize(jfrProperties.maxSize().toBytes());
+		recording.setToDisk(true);
+		recording.start();
+		log.info("JFR recording started : settings {}", jfrProperties.settings());
+		return status();
+	}
+
+	private Map<String, Object> stop() {
+		var running = requireRunning();
+		running.stop();
+		var file = dump(running);
+		running.close();
+		recording = null;
+		return Map.of("file", file);
+	}
+
+	private Recording requireRunning() {
+		if (recording == null || recording.getState() != RecordingState.RUNNING) {
+			throw new InvalidEndpointRequestException("JFR recording is not running", "start recording first");
+		}
+		return recording;
+	}
+
+	private String dump(Recording target) {
+		var file = jfrProperties.dumpDirectory()
+			.resolve(RECORDING_NAME + "-" + FILE_TIMESTAMP.format(Instant.now()) + ".jfr");
+		try {
+			Files.createDirectories(file.getParent());
+			target.dump(file);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		log.info("JFR recording dumped : {}", file.toAbsolutePath());
+		return file.toAbsolutePath().toString();
+	}
+}
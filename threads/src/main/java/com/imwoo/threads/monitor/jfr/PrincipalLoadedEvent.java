@@ -0,0 +1,27 @@
+package com.imwoo.threads.monitor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * database 모드의 Principal 조회 구간 ( Principal 캐시 + UserEntity 조회 )
+ */
+@Name("com.imwoo.threads.PrincipalLoaded")
+@Label("Principal Loaded")
+@Description("JwtAuthenticationFilter 의 인증 사용자 조회")
+@Category({"Threads", "Authentication"})
+@StackTrace(false)
+@Setter
+public class PrincipalLoadedEvent extends Event {
+
+	@Label("Username")
+	private String username;
+
+	@Label("Success")
+	private boolean success;
+}
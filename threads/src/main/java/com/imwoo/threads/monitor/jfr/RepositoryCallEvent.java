@@ -0,0 +1,31 @@
+package com.imwoo.threads.monitor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * Service 에서 호출한 Repository 메서드 구간
+ * rowCount 는 조회 결과 건수 ( 컬렉션 크기, Optional 0/1, 단건 1 ), 건수로 볼 수 없는 결과는 -1
+ */
+@Name("com.imwoo.threads.RepositoryCall")
+@Label("Repository Call")
+@Description("Repository 메서드 호출과 결과 건수")
+@Category({"Threads", "Persistence"})
+@StackTrace(false)
+@Setter
+public class RepositoryCallEvent extends Event {
+
+	@Label("Method")
+	private String method;
+
+	@Label("Row Count")
+	private long rowCount;
+
+	@Label("Success")
+	private boolean success;
+}
@@ -0,0 +1,59 @@
+package com.imwoo.threads.monitor.jfr;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+/**
+ * Service 의 Repository 호출마다 RepositoryCall JFR 이벤트 기록
+ * Spring Data Repository ( 상속 메서드 포함 ) 와 JDBC 전용 Repository 를 모두 대상으로 하며,
+ * 레코딩 중이 아니면 이벤트 생성 없이 바로 호출한다.
+ */
+@Aspect
+@Component
+public class RepositoryCallEventAspect {
+
+	@Around("target(org.springframework.data.repository.Repository) || within(com.imwoo.threads.repository..*)")
+	public Object recordRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+		var event = new RepositoryCallEvent();
+		if (!event.isEnabled()) {
+			return joinPoint.proceed();
+		}
+
+		event.begin();
+		var success = false;
+		Object result = null;
+		try {
+			result = joinPoint.proceed();
+			success = true;
+			return result;
+		} finally {
+			if (event.shouldCommit()) {
+				var signature = joinPoint.getSignature();
+				event.setMethod(signature.getDeclaringType().getSimpleName() + "." + signature.getName());
+				event.setRowCount(success ? rowCount(result) : -1);
+				event.setSuccess(success);
+				event.commit();
+			}
+		}
+	}
+
+	private static long rowCount(Object result) {
+		return switch (result) {
+			case null -> 0;
+			case Collection<?> collection -> collection.size();
+			case Map<?, ?> map -> map.size();
+			case Slice<?> slice -> slice.getNumberOfElements();
+			case Optional<?> optional -> optional.isPresent() ? 1 : 0;
+			case Number ignored -> -1;
+			case Boolean ignored -> -1;
+			default -> 1;
+		};
+	}
+}
@@ -0,0 +1,30 @@
+package com.imwoo.threads.monitor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * 응답 본문 JSON 직렬화 구간
+ */
+@Name("com.imwoo.threads.ResponseSerialized")
+@Label("Response Serialized")
+@Description("응답 본문 JSON 직렬화")
+@Category({"Threads", "Web"})
+@StackTrace(false)
+@Setter
+public class ResponseSerializedEvent extends Event {
+
+	@Label("URI")
+	private String uri;
+
+	@Label("Body Type")
+	private String bodyType;
+
+	@Label("Success")
+	private boolean success;
+}
@@ -0,0 +1,27 @@
+package com.imwoo.threads.monitor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import lombok.Setter;
+
+/**
+ * Access Token 검증 구간 ( 검증 캐시 조회 + 캐시 미스 시 서명 검증 )
+ */
+@Name("com.imwoo.threads.TokenVerified")
+@Label("Token Verified")
+@Description("JwtAuthenticationFilter 의 Access Token 검증")
+@Category({"Threads", "Authentication"})
+@StackTrace(false)
+@Setter
+public class TokenVerifiedEvent extends Event {
+
+	@Label("Principal Mode")
+	private String mode;
+
+	@Label("Success")
+	private boolean success;
+}
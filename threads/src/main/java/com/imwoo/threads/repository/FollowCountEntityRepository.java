@@ -0,0 +1,32 @@
+package com.imwoo.threads.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.imwoo.threads.model.entity.FollowCountEntity;
+
+public interface FollowCountEntityRepository extends JpaRepository<FollowCountEntity, Long> {
+
+	/**
+	 * 팔로워 수 증감 ( 행이 없으면 생성 )
+	 * 동시 팔로우 요청에도 유실되지 않도록 DB 에서 원자적으로 증감한다.
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = """
+		INSERT INTO follow_count (userId, followerCount)
+		VALUES (:userId, GREATEST(:delta, 0))
+		ON CONFLICT (userId) DO UPDATE
+		SET followerCount = GREATEST(follow_count.followerCount + :delta, 0)
+		""", nativeQuery = true)
+	int increaseFollowerCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+	default long getFollowerCount(Long userId) {
+		return findById(userId)
+			.map(FollowCountEntity::getFollowerCount)
+			.orElse(0L);
+	}
+}
@@ -0,0 +1,80 @@
+package com.imwoo.threads.repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.imwoo.threads.model.entity.FollowEntity;
+
+public interface FollowEntityRepository extends JpaRepository<FollowEntity, Long> {
+
+	/**
+	 * 팔로우 관계 추가 ( 이미 있으면 무시 )
+	 * 존재 확인 후 저장하면 동시 요청이 모두 확인을 통과해서 unique 인덱스 위반 ( 500 ) 이 발생하므로
+	 * ON CONFLICT DO NOTHING 으로 한 문장에서 처리하고 영향 행 수 ( 0 : 이미 팔로우 중 ) 를 반환한다.
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = """
+		INSERT INTO follow (followerId, followingId, createdDateTime)
+		VALUES (:followerId, :followingId, :createdDateTime)
+		ON CONFLICT (followerId, followingId) DO NOTHING
+		""", nativeQuery = true)
+	int insertIfAbsent(
+		@Param("followerId") Long followerId,
+		@Param("followingId") Long followingId,
+		@Param("createdDateTime") ZonedDateTime createdDateTime
+	);
+
+	/**
+	 * 팔로우 관계 삭제 ( 영향 행 수 0 : 팔로우 중이 아님 )
+	 * 동시 언팔로우 요청 중 하나만 1 을 반환하므로 팔로워 수가 한 번만 감소한다.
+	 */
+	@Transactional
+	@Modifying
+	@Query("""
+		DELETE FROM FollowEntity f
+		WHERE f.follower.userId = :followerId
+			AND f.following.userId = :followingId
+		""")
+	int deleteByFollowerIdAndFollowingId(
+		@Param("followerId") Long followerId,
+		@Param("followingId") Long followingId
+	);
+
+	/**
+	 * Fan-out 대상 팔로워 ID Keyset 조회
+	 * (followingId, followerId) 인덱스만으로 limit 건씩 읽는다.
+	 */
+	@Query("""
+		SELECT f.follower.userId FROM FollowEntity f
+		WHERE f.following.userId = :followingId
+			AND f.follower.userId > :afterFollowerId
+		ORDER BY f.follower.userId
+		""")
+	List<Long> findFollowerIds(
+		@Param("followingId") Long followingId,
+		@Param("afterFollowerId") Long afterFollowerId,
+		Limit limit
+	);
+
+	/**
+	 * 팔로잉 중인 고팔로워 작성자 ID 조회 ( Fan-out-on-read 대상 )
+	 */
+	@Query("""
+		SELECT f.following.userId FROM FollowEntity f, FollowCountEntity c
+		WHERE f.follower.userId = :followerId
+			AND c.userId = f.following.userId
+			AND c.followerCount > :threshold
+		""")
+	List<Long> findHighFollowerFollowingIds(
+		@Param("followerId") Long followerId,
+		@Param("threshold") long threshold
+	);
+}
@@ -1,13 +1,129 @@
 package com.imwoo.threads.repository;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.imwoo.threads.model.entity.PostEntity;
-import com.imwoo.threads.model.entity.UserEntity;
+import com.imwoo.threads.model.post.response.PostResponse;
 
+/**
+ * 조회 전용 메서드는 PostResponse 생성자 표현식으로 바로 매핑한다. ( DTO Projection )
+ * 영속성 컨텍스트에 엔티티, 스냅샷을 만들지 않고 작성자의 password 컬럼도 읽지 않는다.
+ * 수정 ( PostUpdateRepository ), 삭제는 엔티티를 조회하지 않고 작성자 조건을 포함한 단일 UPDATE 로 처리한다.
+ */
 public interface PostEntityRepository extends JpaRepository<PostEntity, Long> {
 
-	List<PostEntity> findByUser(UserEntity user);
+	String SELECT_POST_RESPONSE = """
+		SELECT new com.imwoo.threads.model.post.response.PostResponse(
+			p.postId, p.body,
+			u.userId, u.username, u.profile, u.description, u.createdDateTime, u.updatedDateTime,
+			p.createdDateTime, p.updatedDateTime, p.deletedDateTime
+		)
+		""";
+
+	// 단건 조회
+	@Query(SELECT_POST_RESPONSE + """
+		FROM PostEntity p
+		JOIN p.user u
+		WHERE p.postId = :postId
+		""")
+	Optional<PostResponse> findResponseById(@Param("postId") Long postId);
+
+	/**
+	 * 작성자 본인의 Post soft delete ( 조회 없이 단일 UPDATE, @SQLDelete 와 같은 결과 )
+	 */
+	@Transactional
+	@Modifying
+	@Query("""
+		UPDATE PostEntity p
+		SET p.deletedDateTime = :deletedDateTime
+		WHERE p.postId = :postId
+		AND p.user.userId = :userId
+		AND p.deletedDateTime IS NULL
+		""")
+	int softDeleteByOwner(
+		@Param("postId") Long postId,
+		@Param("userId") Long userId,
+		@Param("deletedDateTime") ZonedDateTime deletedDateTime
+	);
+
+	/**
+	 * Post 다건 조회 ( 작성자 join 단일 IN 쿼리 )
+	 * 삭제된 Post, 탈퇴한 작성자는 @SQLRestriction 으로 제외된다.
+	 */
+	@Query(SELECT_POST_RESPONSE + """
+		FROM PostEntity p
+		JOIN p.user u
+		WHERE p.postId IN :postIds
+		""")
+	List<PostResponse> findResponsesByIdIn(@Param("postIds") Collection<Long> postIds);
+
+	// 작성자 Post 전체 조회
+	@Query(SELECT_POST_RESPONSE + """
+		FROM PostEntity p
+		JOIN p.user u
+		WHERE u.userId = :userId
+		""")
+	List<PostResponse> findResponsesByUserId(@Param("userId") Long userId);
+
+	/**
+	 * Keyset 페이지 첫 페이지 조회
+	 * OFFSET, COUNT(*) 없이 PK 인덱스 역순으로 limit 건만 읽는다. ( postId 는 시간 순서 Snowflake 식별자 )
+	 * Post, 작성자 컬럼을 한번의 쿼리로 조회 ( N+1 방지 )
+	 */
+	@Query(SELECT_POST_RESPONSE + """
+		FROM PostEntity p
+		JOIN p.user u
+		ORDER BY p.postId DESC
+		""")
+	List<PostResponse> findLatest(Limit limit);
+
+	/**
+	 * Keyset 페이지 다음 페이지 조회
+	 * 커서 postId 보다 이전에 작성된 Post 를 limit 건 조회
+	 */
+	@Query(SELECT_POST_RESPONSE + """
+		FROM PostEntity p
+		JOIN p.user u
+		WHERE p.postId < :postId
+		ORDER BY p.postId DESC
+		""")
+	List<PostResponse> findLatestBefore(@Param("postId") Long postId, Limit limit);
+
+	/**
+	 * 작성자 최신 Post 조회 ( 고팔로워 작성자 최근 Post 캐시 적재용 )
+	 */
+	@Query(SELECT_POST_RESPONSE + """
+		FROM PostEntity p
+		JOIN p.user u
+		WHERE u.userId = :userId
+		ORDER BY p.postId DESC
+		""")
+	List<PostResponse> findLatestByUserId(@Param("userId") Long userId, Limit limit);
+
+	/**
+	 * 작성자 Post Keyset 다음 청크 조회 ( NDJSON 내보내기 )
+	 * post_userid_postid_idx 를 커서 postId 부터 역순으로 limit 건만 읽는다.
+	 */
+	@Query(SELECT_POST_RESPONSE + """
+		FROM PostEntity p
+		JOIN p.user u
+		WHERE u.userId = :userId
+		AND p.postId < :postId
+		ORDER BY p.postId DESC
+		""")
+	List<PostResponse> findLatestByUserIdBefore(
+		@Param("userId") Long userId,
+		@Param("postId") Long postId,
+		Limit limit
+	);
 }
@@ -0,0 +1,97 @@
+package com.imwoo.threads.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.imwoo.threads.model.post.PostSearchCursor;
+import com.imwoo.threads.model.post.PostSearchHit;
+import com.imwoo.threads.model.post.response.PostResponse;
+import com.imwoo.threads.model.user.User;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Post 본문 전문 검색 전용 Repository
+ * tsvector 생성 컬럼 ( bodySearch, import.sql ) 의 GIN 인덱스로 일치하는 Post 만 찾고,
+ * ts_rank 에 최신성 가중치를 곱한 점수 순으로 정렬한다. ( @@, ts_rank 는 JPQL 로 표현할 수 없어 JDBC 사용 )
+ * native 조회이므로 @SQLRestriction 이 적용되지 않아 Soft Delete 조건을 직접 건다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostSearchRepository {
+
+	private static final String SEARCH_SQL = """
+		SELECT *
+		FROM (
+			SELECT p.postId, p.body, p.createdDateTime, p.updatedDateTime,
+				u.userId, u.username, u.profile, u.description,
+				u.createdDateTime AS userCreatedDateTime, u.updatedDateTime AS userUpdatedDateTime,
+				(ts_rank(p.bodySearch, q.query)
+					/ (1 + GREATEST(EXTRACT(EPOCH FROM (? - p.createdDateTime)), 0) / ?))::float8 AS score
+			FROM post p
+			JOIN "user" u ON u.userId = p.userId
+			CROSS JOIN websearch_to_tsquery('simple', ?) AS q(query)
+			WHERE p.bodySearch @@ q.query
+				AND p.deletedDateTime IS NULL
+				AND u.deletedDateTime IS NULL
+		) s
+		%s
+		ORDER BY s.score DESC, s.postId DESC
+		LIMIT ?
+		""";
+
+	private static final String FIRST_PAGE_SQL = SEARCH_SQL.formatted("");
+	private static final String NEXT_PAGE_SQL = SEARCH_SQL.formatted("WHERE (s.score, s.postId) < (?, ?)");
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * @param asOf 최신성 가중치 기준 시각 ( 페이지 사이에 고정 )
+	 * @param cursor 첫 페이지는 null
+	 */
+	public List<PostSearchHit> search(String query, Instant asOf, Duration recencyHalfLife,
+		PostSearchCursor cursor, int limit) {
+		var asOfDateTime = OffsetDateTime.ofInstant(asOf, ZoneOffset.UTC);
+		var halfLifeSeconds = (double)recencyHalfLife.toSeconds();
+		if (cursor == null) {
+			return jdbcTemplate.query(FIRST_PAGE_SQL, PostSearchRepository::mapHit,
+				asOfDateTime, halfLifeSeconds, query, limit);
+		}
+		return jdbcTemplate.query(NEXT_PAGE_SQL, PostSearchRepository::mapHit,
+			asOfDateTime, halfLifeSeconds, query, cursor.score(), cursor.postId(), limit);
+	}
+
+	private static PostSearchHit mapHit(ResultSet rs, int rowNum) throws SQLException {
+		var user = new User(
+			rs.getLong("userId"),
+			rs.getString("username"),
+			rs.getString("profile"),
+			rs.getString("description"),
+			zoned(rs, "userCreatedDateTime"),
+			zoned(rs, "userUpdatedDateTime")
+		);
+		var post = new PostResponse(
+			rs.getLong("postId"),
+			rs.getString("body"),
+			user,
+			zoned(rs, "createdDateTime"),
+			zoned(rs, "updatedDateTime"),
+			null
+		);
+		return new PostSearchHit(post, rs.getDouble("score"));
+	}
+
+	private static ZonedDateTime zoned(ResultSet rs, String column) throws SQLException {
+		var value = rs.getObject(column, OffsetDateTime.class);
+		return value == null ? null : value.toZonedDateTime();
+	}
+}
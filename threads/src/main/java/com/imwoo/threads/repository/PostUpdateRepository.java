@@ -0,0 +1,78 @@
+package com.imwoo.threads.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.imwoo.threads.model.post.response.PostResponse;
+import com.imwoo.threads.model.user.User;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Post 수정 전용 Repository
+ * UPDATE ... RETURNING 으로 수정과 응답 조회를 한 번의 왕복으로 처리한다.
+ * ( JPQL UPDATE 는 영향 행 수만 돌려주고, RETURNING 은 JPQL 로 표현할 수 없어 JDBC 사용 )
+ * native 실행이므로 @SQLRestriction 이 적용되지 않아 Soft Delete 조건을 직접 건다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostUpdateRepository {
+
+	private static final String UPDATE_BODY_SQL = """
+		UPDATE post p
+		SET body = ?, updatedDateTime = ?
+		FROM "user" u
+		WHERE p.postId = ?
+			AND p.userId = ?
+			AND p.deletedDateTime IS NULL
+			AND u.userId = p.userId
+			AND u.deletedDateTime IS NULL
+		RETURNING p.postId, p.body, p.createdDateTime, p.updatedDateTime,
+			u.userId, u.username, u.profile, u.description,
+			u.createdDateTime AS userCreatedDateTime, u.updatedDateTime AS userUpdatedDateTime
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 작성자 본인의 Post 본문 수정 후 수정된 Post 반환
+	 * 작성자 조건을 WHERE 절에 포함하므로 빈 결과는 없는 Post 이거나 작성자가 아닌 경우
+	 */
+	public Optional<PostResponse> updateBodyByOwner(Long postId, Long userId, String body,
+		ZonedDateTime updatedDateTime) {
+		return jdbcTemplate.query(UPDATE_BODY_SQL, PostUpdateRepository::mapPost,
+				body, updatedDateTime.toOffsetDateTime(), postId, userId)
+			.stream()
+			.findFirst();
+	}
+
+	private static PostResponse mapPost(ResultSet rs, int rowNum) throws SQLException {
+		var user = new User(
+			rs.getLong("userId"),
+			rs.getString("username"),
+			rs.getString("profile"),
+			rs.getString("description"),
+			zoned(rs, "userCreatedDateTime"),
+			zoned(rs, "userUpdatedDateTime")
+		);
+		return new PostResponse(
+			rs.getLong("postId"),
+			rs.getString("body"),
+			user,
+			zoned(rs, "createdDateTime"),
+			zoned(rs, "updatedDateTime"),
+			null
+		);
+	}
+
+	private static ZonedDateTime zoned(ResultSet rs, String column) throws SQLException {
+		var value = rs.getObject(column, OffsetDateTime.class);
+		return value == null ? null : value.toZonedDateTime();
+	}
+}
@@ -0,0 +1,46 @@
+package com.imwoo.threads.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.imwoo.threads.model.entity.TimelineEntity;
+import com.imwoo.threads.model.post.response.PostResponse;
+
+public interface TimelineEntityRepository extends JpaRepository<TimelineEntity, Long> {
+
+	/**
+	 * 홈 타임라인 첫 페이지 조회
+	 * Inbox 인덱스 범위 조회 + Post, 작성자 컬럼을 PostResponse 로 바로 매핑
+	 */
+	@Query(PostEntityRepository.SELECT_POST_RESPONSE + """
+		FROM TimelineEntity t
+		JOIN t.post p
+		JOIN p.user u
+		WHERE t.userId = :userId
+			AND p.deletedDateTime IS NULL
+		ORDER BY t.post.postId DESC
+		""")
+	List<PostResponse> findTimeline(@Param("userId") Long userId, Limit limit);
+
+	/**
+	 * 홈 타임라인 다음 페이지 조회
+	 */
+	@Query(PostEntityRepository.SELECT_POST_RESPONSE + """
+		FROM TimelineEntity t
+		JOIN t.post p
+		JOIN p.user u
+		WHERE t.userId = :userId
+			AND p.deletedDateTime IS NULL
+			AND t.post.postId < :postId
+		ORDER BY t.post.postId DESC
+		""")
+	List<PostResponse> findTimelineBefore(
+		@Param("userId") Long userId,
+		@Param("postId") Long postId,
+		Limit limit
+	);
+}
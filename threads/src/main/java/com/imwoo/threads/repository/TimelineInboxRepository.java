@@ -0,0 +1,88 @@
+package com.imwoo.threads.repository;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.imwoo.threads.model.post.response.PostResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 타임라인 Inbox 적재 전용 Repository
+ * TimelineEntity 는 IDENTITY 전략이라 JPA saveAll 로는 insert batch 가 되지 않으므로
+ * Fan-out 은 JDBC batch insert 로 팔로워 묶음 단위 한번에 적재한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TimelineInboxRepository {
+
+	private static final String INSERT_SQL = """
+		INSERT INTO timeline (userId, postId, createdDateTime)
+		VALUES (?, ?, ?)
+		ON CONFLICT (userId, postId) DO NOTHING
+		""";
+
+	/**
+	 * Inbox 건수가 size 를 넘는 사용자 ( (userId, postId) 유니크 인덱스만으로 집계 )
+	 */
+	private static final String OVERFLOWED_USER_IDS_SQL = """
+		SELECT userId
+		FROM timeline
+		GROUP BY userId
+		HAVING COUNT(*) > ?
+		""";
+
+	/**
+	 * 사용자별 최신 maxSize 건을 넘는 Inbox 항목 정리
+	 */
+	private static final String TRIM_SQL = """
+		DELETE FROM timeline t
+		USING (
+			SELECT timelineId,
+				ROW_NUMBER() OVER (PARTITION BY userId ORDER BY postId DESC) AS rn
+			FROM timeline
+			WHERE userId = ANY (?)
+		) r
+		WHERE t.timelineId = r.timelineId
+			AND r.rn > ?
+		""";
+
+	// 일괄 작성 Post 적재 시 한 번에 전송하는 최대 행 수 ( 사용자 수 x Post 수 )
+	private static final int INSERT_BATCH_SIZE = 1000;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 사용자 x Post 조합을 INSERT_BATCH_SIZE 단위 JDBC batch 로 적재
+	 */
+	public void insertAll(List<Long> userIds, List<PostResponse> posts) {
+		var rows = new ArrayList<InboxRow>(userIds.size() * posts.size());
+		for (var post : posts) {
+			var createdDateTime = post.createdDateTime().toOffsetDateTime();
+			userIds.forEach(userId -> rows.add(new InboxRow(userId, post.postId(), createdDateTime)));
+		}
+		jdbcTemplate.batchUpdate(INSERT_SQL, rows, INSERT_BATCH_SIZE, (ps, row) -> {
+			ps.setLong(1, row.userId());
+			ps.setLong(2, row.postId());
+			ps.setObject(3, row.createdDateTime());
+		});
+	}
+
+	public List<Long> findUserIdsOverSize(int size) {
+		return jdbcTemplate.queryForList(OVERFLOWED_USER_IDS_SQL, Long.class, size);
+	}
+
+	public int trim(List<Long> userIds, int maxSize) {
+		return jdbcTemplate.update(TRIM_SQL, ps -> {
+			ps.setArray(1, ps.getConnection().createArrayOf("bigint", userIds.toArray()));
+			ps.setInt(2, maxSize);
+		});
+	}
+
+	private record InboxRow(Long userId, Long postId, OffsetDateTime createdDateTime) {
+	}
+}
@@ -3,16 +3,59 @@ package com.imwoo.threads.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.imwoo.threads.model.entity.UserEntity;
+import com.imwoo.threads.model.user.User;
 
+/**
+ * 조회 전용 메서드는 User 생성자 표현식으로 바로 매핑한다. ( DTO Projection )
+ * 인증, 수정과 같이 password 또는 엔티티가 필요한 경우에만 UserEntity 를 조회
+ */
 @Repository
 public interface UserEntityRepository extends JpaRepository<UserEntity, Long> {
 
-	// Containing : %param%
-	List<UserEntity> findByUsernameContaining(String username);
+	String SELECT_USER = """
+		SELECT new com.imwoo.threads.model.user.User(
+			u.userId, u.username, u.profile, u.description, u.createdDateTime, u.updatedDateTime
+		)
+		""";
 
 	Optional<UserEntity> findByUsername(String username);
+
+	@Query("SELECT u.userId FROM UserEntity u WHERE u.username = :username")
+	Optional<Long> findUserIdByUsername(@Param("username") String username);
+
+	@Query(SELECT_USER + """
+		FROM UserEntity u
+		WHERE u.username = :username
+		""")
+	Optional<User> findUserByUsername(@Param("username") String username);
+
+	/**
+	 * 사용자 목록 Keyset 페이지 첫 페이지 조회 ( PK 인덱스 순서대로 limit 건 )
+	 */
+	@Query(SELECT_USER + """
+		FROM UserEntity u
+		ORDER BY u.userId
+		""")
+	List<User> findUsers(Limit limit);
+
+	/**
+	 * 사용자 목록 Keyset 페이지 다음 페이지 조회
+	 */
+	@Query(SELECT_USER + """
+		FROM UserEntity u
+		WHERE u.userId > :userId
+		ORDER BY u.userId
+		""")
+	List<User> findUsersAfter(@Param("userId") Long userId, Limit limit);
+
+	// 자동완성 인덱스 적재용
+	@Query("SELECT u.username FROM UserEntity u")
+	List<String> findAllUsernames();
 }
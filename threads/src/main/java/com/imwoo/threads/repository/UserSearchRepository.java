@@ -0,0 +1,67 @@
+package com.imwoo.threads.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.imwoo.threads.config.properties.UserSearchProperties;
+import com.imwoo.threads.model.user.User;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * username 검색 전용 Repository
+ * LIKE '%q%' 는 B-tree ( user_username_idx ) 를 사용할 수 없어 매번 전체 스캔이 되므로
+ * pg_trgm GIN 인덱스 ( user_username_trgm_idx, import.sql ) 로 부분 일치 또는 유사한 username 을 찾고
+ * similarity 순으로 maxResults 건만 반환한다. ( %, similarity 는 JPQL 로 표현할 수 없어 JDBC 사용 )
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserSearchRepository {
+
+	// trigram 길이, 이보다 짧은 검색어는 인덱스로 후보를 좁힐 수 없다.
+	public static final int TRIGRAM_LENGTH = 3;
+
+	private static final String SEARCH_SQL = """
+		SELECT userId, username, profile, description, createdDateTime, updatedDateTime
+		FROM "user"
+		WHERE (username LIKE ? ESCAPE '\\' OR username % ?)
+			AND deletedDateTime IS NULL
+		ORDER BY similarity(username, ?) DESC, username
+		LIMIT ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final UserSearchProperties userSearchProperties;
+
+	public List<User> searchByUsername(String query) {
+		var containing = "%" + escapeLike(query) + "%";
+		return jdbcTemplate.query(SEARCH_SQL, UserSearchRepository::mapUser,
+			containing, query, query, userSearchProperties.maxResults());
+	}
+
+	private static String escapeLike(String value) {
+		return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+	}
+
+	private static User mapUser(ResultSet rs, int rowNum) throws SQLException {
+		return new User(
+			rs.getLong("userId"),
+			rs.getString("username"),
+			rs.getString("profile"),
+			rs.getString("description"),
+			zoned(rs, "createdDateTime"),
+			zoned(rs, "updatedDateTime")
+		);
+	}
+
+	private static ZonedDateTime zoned(ResultSet rs, String column) throws SQLException {
+		var value = rs.getObject(column, OffsetDateTime.class);
+		return value == null ? null : value.toZonedDateTime();
+	}
+}
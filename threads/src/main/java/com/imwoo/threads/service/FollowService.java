@@ -0,0 +1,69 @@
+package com.imwoo.threads.service;
+
+import java.time.ZonedDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.imwoo.threads.exception.follow.FollowDuplicatedException;
+import com.imwoo.threads.exception.follow.FollowNotAllowedException;
+import com.imwoo.threads.exception.follow.FollowNotFoundException;
+import com.imwoo.threads.exception.user.UserNotFoundException;
+import com.imwoo.threads.model.entity.UserEntity;
+import com.imwoo.threads.model.user.User;
+import com.imwoo.threads.model.user.UserPrincipal;
+import com.imwoo.threads.repository.FollowCountEntityRepository;
+import com.imwoo.threads.repository.FollowEntityRepository;
+import com.imwoo.threads.repository.UserEntityRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class FollowService {
+
+	private final FollowEntityRepository followEntityRepository;
+	private final FollowCountEntityRepository followCountEntityRepository;
+	private final UserEntityRepository userEntityRepository;
+
+	// 팔로우
+	@Transactional
+	public User follow(String username, UserPrincipal currentUser) {
+		var followingEntity = getUserByUsernameWithThrow(username);
+
+		// 자기 자신은 팔로우 불가
+		if (followingEntity.getUserId().equals(currentUser.getUserId())) {
+			throw new FollowNotAllowedException();
+		}
+
+		// 실제로 추가된 경우에만 팔로워 수 증가 ( 동시 중복 요청은 409 )
+		var inserted = followEntityRepository.insertIfAbsent(
+			currentUser.getUserId(), followingEntity.getUserId(), ZonedDateTime.now());
+		if (inserted == 0) {
+			throw new FollowDuplicatedException(username);
+		}
+		followCountEntityRepository.increaseFollowerCount(followingEntity.getUserId(), 1);
+
+		return User.from(followingEntity);
+	}
+
+	// 언팔로우
+	@Transactional
+	public void unfollow(String username, UserPrincipal currentUser) {
+		var followingEntity = getUserByUsernameWithThrow(username);
+
+		// 팔로우 관계는 이력 없이 삭제하고, 실제로 삭제된 경우에만 팔로워 수 감소
+		// 이미 Inbox 에 적재된 Post 는 Inbox 최대 건수 정리 시점에 자연스럽게 밀려난다.
+		var deleted = followEntityRepository.deleteByFollowerIdAndFollowingId(
+			currentUser.getUserId(), followingEntity.getUserId());
+		if (deleted == 0) {
+			throw new FollowNotFoundException(username);
+		}
+		followCountEntityRepository.increaseFollowerCount(followingEntity.getUserId(), -1);
+	}
+
+	private UserEntity getUserByUsernameWithThrow(String username) {
+		return userEntityRepository.findByUsername(username)
+			.orElseThrow(() -> new UserNotFoundException(username));
+	}
+}
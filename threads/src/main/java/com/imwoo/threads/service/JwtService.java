@@ -7,49 +7,109 @@ import javax.crypto.SecretKey;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import com.imwoo.threads.cache.VerifiedTokenCache;
+import com.imwoo.threads.config.properties.JwtProperties;
+import com.imwoo.threads.model.user.ClaimsUserPrincipal;
+import com.imwoo.threads.model.user.UserPrincipal;
+import com.imwoo.threads.monitor.RequestTimers;
+
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
 public class JwtService {
 
+	// Principal 생성에 필요한 사용자 식별자 Claim
+	static final String USER_ID_CLAIM = "userId";
+	static final String VERIFICATION_METRIC = "threads.jwt.verification";
+
 	// TODO properties 등 외부적으로 노출되지 않은 key 로 사용 및 멀티 key 사용 고민
 	private static final SecretKey key = Jwts.SIG.HS256.key().build();
+	// JwtParser 는 불변, thread-safe 하므로 한번만 생성해서 재사용
+	private static final JwtParser parser = Jwts.parser().verifyWith(key).build();
 
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final JwtProperties jwtProperties;
+	private final MeterRegistry meterRegistry;
+
+	public JwtService(VerifiedTokenCache verifiedTokenCache, JwtProperties jwtProperties,
+		MeterRegistry meterRegistry) {
+		this.verifiedTokenCache = verifiedTokenCache;
+		this.jwtProperties = jwtProperties;
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * principal-mode 와 관계없이 userId Claim 을 포함해서 발급
+	 * 모드 전환 시 기존 발급 토큰을 그대로 사용할 수 있다.
+	 */
 	public String generateAccessToken(UserDetails userDetails) {
-		return generateToken(userDetails.getUsername());
+		var userId = userDetails instanceof UserPrincipal userPrincipal ? userPrincipal.getUserId() : null;
+		return generateToken(userDetails.getUsername(), userId);
 	}
 
 	public String getUsername(String accessToken) {
-		return getSubject(accessToken);
+		return getClaims(accessToken).getSubject();
+	}
+
+	// Claims 모드 : 검증된 Claims 로 Principal 생성 ( DB 조회 없음 )
+	public UserPrincipal getPrincipal(String accessToken) {
+		var claims = getClaims(accessToken);
+		var userId = claims.get(USER_ID_CLAIM, Long.class);
+		if (userId == null) {
+			throw new MalformedJwtException("userId claim is missing");
+		}
+		return new ClaimsUserPrincipal(userId, claims.getSubject());
+	}
+
+	public boolean isClaimsPrincipalMode() {
+		return jwtProperties.principalMode() == JwtProperties.PrincipalMode.CLAIMS;
 	}
 
-	private String generateToken(String subject) {
+	private String generateToken(String subject, Long userId) {
 		var now = new Date();
 		// 현재 시점 3시간 이후 만료
 		var exp = new Date(now.getTime() + (1000 * 60 * 60 * 3));
 		return Jwts.builder()
 			.subject(subject)
+			.claim(USER_ID_CLAIM, userId)
 			.signWith(key)
 			.issuedAt(now)
 			.expiration(exp)
 			.compact();
 	}
 
-	private String getSubject(String token) {
+	private Claims getClaims(String token) {
 		try {
-			return Jwts.parser()
-				.verifyWith(key)
-				.build()
-				.parseSignedClaims(token)
-				.getPayload()
-				.getSubject();
+			return verifiedTokenCache.get(token, this::verify);
 		} catch (JwtException e) {
 			// TODO Jwt 에러 응답 추후 생성
 			log.error("JwtException : {}", e.getMessage());
 			throw e;
 		}
 	}
+
+	/**
+	 * 서명, 만료 검증 ( 캐시 미스 시에만 수행 )
+	 * 파싱 + 서명 검증 시간을 결과, 요청 URI 패턴별로 기록 ( 캐시 hit 는 jwt.verified-token 캐시 메트릭 )
+	 */
+	private Claims verify(String token) {
+		var start = System.nanoTime();
+		var outcome = "failure";
+		try {
+			var claims = parser.parseSignedClaims(token).getPayload();
+			outcome = "success";
+			return claims;
+		} finally {
+			RequestTimers.record(meterRegistry, VERIFICATION_METRIC, Tags.of("outcome", outcome),
+				System.nanoTime() - start);
+		}
+	}
 }
@@ -0,0 +1,114 @@
+package com.imwoo.threads.service;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.imwoo.threads.config.AsyncConfiguration;
+import com.imwoo.threads.config.properties.PasswordProperties;
+import com.imwoo.threads.exception.user.PasswordHashingUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * BCrypt 해싱을 요청 스레드가 아닌 해싱 전용 워커 풀에서 처리
+ * 동시 해싱 수는 코어 수, 대기 수는 queueCapacity 로 제한되며 초과 요청은 즉시 503 으로 거절한다.
+ * 요청 스레드는 future.get(timeout) 으로 결과를 기다리므로 해싱 중에도 Tomcat 워커는 반환되지 않는다.
+ * 이 구조가 제한하는 것은 동시 해싱 CPU 사용량이며, 요청 스레드 점유 시간은 줄지 않는다.
+ * 메트릭 : password.hashing.queue.depth, password.hashing.latency{operation}, password.hashing.rejected
+ */
+@Service
+public class PasswordHashingService {
+
+	// $2a$10$... 형식에서 cost factor 추출
+	private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d{2})\\$");
+
+	private final BCryptPasswordEncoder passwordEncoder;
+	private final ThreadPoolTaskExecutor executor;
+	private final int bcryptStrength;
+	private final Duration timeout;
+	private final Timer encodeTimer;
+	private final Timer matchesTimer;
+	private final Counter rejectedCounter;
+
+	public PasswordHashingService(
+		BCryptPasswordEncoder passwordEncoder,
+		@Qualifier(AsyncConfiguration.PASSWORD_HASHING_EXECUTOR) ThreadPoolTaskExecutor executor,
+		PasswordProperties passwordProperties,
+		MeterRegistry meterRegistry
+	) {
+		this.passwordEncoder = passwordEncoder;
+		this.executor = executor;
+		this.bcryptStrength = passwordProperties.bcryptStrength();
+		this.timeout = passwordProperties.hashing().timeout();
+		this.encodeTimer = Timer.builder("password.hashing.latency")
+			.tag("operation", "encode")
+			.publishPercentiles(0.5, 0.99)
+			.register(meterRegistry);
+		this.matchesTimer = Timer.builder("password.hashing.latency")
+			.tag("operation", "matches")
+			.publishPercentiles(0.5, 0.99)
+			.register(meterRegistry);
+		this.rejectedCounter = Counter.builder("password.hashing.rejected").register(meterRegistry);
+		Gauge.builder("password.hashing.queue.depth", executor,
+				e -> e.getThreadPoolExecutor().getQueue().size())
+			.register(meterRegistry);
+	}
+
+	public String encode(String rawPassword) {
+		return execute(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+	}
+
+	public boolean matches(String rawPassword, String encodedPassword) {
+		return execute(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+	}
+
+	/**
+	 * 저장된 해시의 cost factor 가 현재 설정과 다르면 재해싱 대상
+	 * 해시 문자열만 확인하므로 요청 스레드에서 처리
+	 */
+	public boolean needsRehash(String encodedPassword) {
+		var matcher = BCRYPT_COST.matcher(encodedPassword);
+		return matcher.find() && Integer.parseInt(matcher.group(1)) != bcryptStrength;
+	}
+
+	private <T> T execute(Timer timer, Callable<T> task) {
+		Future<T> future;
+		try {
+			future = executor.submit(() -> timer.recordCallable(task));
+		} catch (TaskRejectedException e) {
+			// 워커, 큐 포화 : 대기 없이 거절
+			rejectedCounter.increment();
+			throw new PasswordHashingUnavailableException(e);
+		}
+
+		try {
+			return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			rejectedCounter.increment();
+			throw new PasswordHashingUnavailableException(e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new PasswordHashingUnavailableException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package com.imwoo.threads.service;
+
+import java.time.Instant;
+
+import org.springframework.stereotype.Service;
+
+import com.imwoo.threads.config.properties.SearchProperties;
+import com.imwoo.threads.exception.post.InvalidSearchQueryException;
+import com.imwoo.threads.model.page.CursorPageResponse;
+import com.imwoo.threads.model.post.PostSearchCursor;
+import com.imwoo.threads.model.post.PostSearchHit;
+import com.imwoo.threads.model.post.response.PostResponse;
+import com.imwoo.threads.repository.PostSearchRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+
+	private final PostSearchRepository postSearchRepository;
+	private final SearchProperties searchProperties;
+
+	// 본문 전문 검색 (Keyset 페이지, 관련도 x 최신성 순)
+	public CursorPageResponse<PostResponse> searchPosts(String query, String cursor, Integer size) {
+		if (query == null || query.isBlank()) {
+			throw new InvalidSearchQueryException();
+		}
+		if (query.length() > searchProperties.maxQueryLength()) {
+			throw new InvalidSearchQueryException(searchProperties.maxQueryLength());
+		}
+
+		var pageSize = CursorPageResponse.boundedSize(size);
+		var searchCursor = cursor == null || cursor.isBlank() ? null : PostSearchCursor.decode(cursor);
+		// 첫 페이지 조회 시각을 커서로 이어받아 페이지 사이 점수가 바뀌지 않도록 고정
+		var asOf = searchCursor == null ? Instant.now() : searchCursor.asOf();
+
+		var hits = postSearchRepository.search(query.strip(), asOf, searchProperties.recencyHalfLife(),
+			searchCursor, pageSize + 1);
+
+		var page = CursorPageResponse.of(hits, pageSize, hit -> PostSearchCursor.from(asOf, hit).encode());
+		return new CursorPageResponse<>(page.items().stream().map(PostSearchHit::post).toList(), page.next());
+	}
+}
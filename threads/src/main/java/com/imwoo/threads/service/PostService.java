@@ -1,101 +1,188 @@
 package com.imwoo.threads.service;
 
+import java.time.ZonedDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.imwoo.threads.cache.RecentPostCache;
+import com.imwoo.threads.exception.ClientErrorException;
 import com.imwoo.threads.exception.post.PostCreatedFailureException;
 import com.imwoo.threads.exception.post.PostNotFoundException;
 import com.imwoo.threads.exception.user.UserNotAllowedException;
 import com.imwoo.threads.exception.user.UserNotFoundException;
 import com.imwoo.threads.model.entity.PostEntity;
-import com.imwoo.threads.model.entity.UserEntity;
+import com.imwoo.threads.model.page.CursorPageResponse;
+import com.imwoo.threads.model.post.PostCursor;
+import com.imwoo.threads.model.post.request.PostBatchCreateRequest;
 import com.imwoo.threads.model.post.request.PostCreateRequest;
+import com.imwoo.threads.model.post.request.PostMultiGetRequest;
 import com.imwoo.threads.model.post.request.PostUpdateRequest;
+import com.imwoo.threads.model.post.response.PostLookupResponse;
 import com.imwoo.threads.model.post.response.PostResponse;
+import com.imwoo.threads.model.user.UserPrincipal;
 import com.imwoo.threads.repository.PostEntityRepository;
+import com.imwoo.threads.repository.PostUpdateRepository;
 import com.imwoo.threads.repository.UserEntityRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed(value = "threads.service", histogram = true)
 @RequiredArgsConstructor
 public class PostService {
 
+	// NDJSON 내보내기 청크 크기
+	static final int EXPORT_CHUNK_SIZE = 500;
+
 	private final PostEntityRepository postEntityRepository;
+	private final PostUpdateRepository postUpdateRepository;
 	private final UserEntityRepository userEntityRepository;
+	private final TimelineFanOutService timelineFanOutService;
+	private final RecentPostCache recentPostCache;
+
+	// 전체 조회 (Keyset 페이지)
+	// 조회 전용 메서드는 readOnly 트랜잭션 + DTO Projection 으로 엔티티 스냅샷, 더티 체킹을 생략
+	@Transactional(readOnly = true)
+	public CursorPageResponse<PostResponse> getPosts(String cursor, Integer size) {
+		var pageSize = CursorPageResponse.boundedSize(size);
+		// 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+		var limit = Limit.of(pageSize + 1);
+
+		List<PostResponse> posts;
+		if (cursor == null || cursor.isBlank()) {
+			posts = postEntityRepository.findLatest(limit);
+		} else {
+			var postCursor = PostCursor.decode(cursor);
+			posts = postEntityRepository.findLatestBefore(postCursor.postId(), limit);
+		}
 
-	// 전체 조회
-	// TODO 페이지 처리 필요
-	public List<PostResponse> getPosts() {
-		return postEntityRepository.findAll()
-			.stream().map(PostResponse::from).toList();
+		return CursorPageResponse.of(posts, pageSize, post -> PostCursor.from(post).encode());
 	}
 
 	// 단건 조회
+	@Transactional(readOnly = true)
 	public PostResponse getPostByPostId(Long postId) {
-		var postEntity = getPostByPostIdWithThrow(postId);
-		return PostResponse.from(postEntity);
+		return postEntityRepository.findResponseById(postId)
+			.orElseThrow(() -> new PostNotFoundException(postId));
+	}
+
+	// 다건 조회 : 중복을 제거한 식별자로 한 번에 조회하고 요청 순서대로 결과를 맞춘다.
+	@Transactional(readOnly = true)
+	public List<PostLookupResponse> getPostsByPostIds(PostMultiGetRequest postMultiGetRequest) {
+		var postIds = postMultiGetRequest.postIds();
+		var posts = postEntityRepository.findResponsesByIdIn(new LinkedHashSet<>(postIds)).stream()
+			.collect(Collectors.toMap(PostResponse::postId, Function.identity()));
+
+		return postIds.stream()
+			.map(postId -> posts.containsKey(postId)
+				? PostLookupResponse.found(posts.get(postId))
+				: PostLookupResponse.missing(postId))
+			.toList();
 	}
 
 	// 생성
-	public PostResponse createPost(PostCreateRequest postCreateRequest, UserEntity userEntity) {
+	public PostResponse createPost(PostCreateRequest postCreateRequest, UserPrincipal userPrincipal) {
 		try {
-			var postEntity = PostEntity.of(postCreateRequest.body(), userEntity);
+			var user = UserReferences.toUserEntity(userPrincipal, userEntityRepository);
+			var postEntity = PostEntity.of(postCreateRequest.body(), user);
 			postEntityRepository.save(postEntity);
 
-			return PostResponse.from(postEntity);
+			var post = PostResponse.from(postEntity);
+
+			// 팔로워 타임라인 Inbox 적재는 비동기 처리
+			timelineFanOutService.fanOut(post);
+
+			return post;
 		} catch (RuntimeException e) {
 			// 예외 전환
 			throw new PostCreatedFailureException(e);
 		}
 	}
 
-	// 수정
-	public PostResponse updatePost(Long postId, PostUpdateRequest postUpdateRequest, UserEntity userEntity) {
-		var postEntity = getPostByPostIdWithThrow(postId);
-
-		// 작성자 확인 후 Update 진행
-		// TODO : 관리자 권한을 가진 사용자라면 허용 분기 등 처리 해보기
-		if (!postEntity.getUser().equals(userEntity)) {
-			throw new UserNotAllowedException();
+	// 일괄 생성
+	// Snowflake 식별자는 DB 왕복 없이 할당되므로 saveAll 한 트랜잭션에서 batch_size 단위로 insert
+	// 타임라인 적재는 커밋 이후 조회될 수 있도록 saveAll 반환 후 요청, 일괄 작성 1건당 Fan-out 1회
+	public List<PostResponse> createPosts(PostBatchCreateRequest postBatchCreateRequest,
+		UserPrincipal userPrincipal) {
+		List<PostResponse> posts;
+		try {
+			var user = UserReferences.toUserEntity(userPrincipal, userEntityRepository);
+			var postEntities = postBatchCreateRequest.posts().stream()
+				.map(postCreateRequest -> PostEntity.of(postCreateRequest.body(), user))
+				.toList();
+			posts = postEntityRepository.saveAll(postEntities).stream()
+				.map(PostResponse::from)
+				.toList();
+		} catch (RuntimeException e) {
+			// 예외 전환
+			throw new PostCreatedFailureException(e);
 		}
 
-		// TODO 트랜잭션 사용해서 JPA 영속성 컨텍스트의 더티 체킹 활용 해보기. / 현재는 Merge 방식으로 적용
-		postEntity.setBody(postUpdateRequest.body());
-		postEntityRepository.save(postEntity);
+		timelineFanOutService.fanOutAll(posts);
+		return posts;
+	}
 
-		return PostResponse.from(postEntity);
+	// 수정
+	// 작성자 조건을 포함한 단일 UPDATE ... RETURNING 으로 수정된 Post 를 바로 응답 ( 조회 왕복 없음 )
+	public PostResponse updatePost(Long postId, PostUpdateRequest postUpdateRequest, UserPrincipal userPrincipal) {
+		// TODO : 관리자 권한을 가진 사용자라면 허용 분기 등 처리 해보기
+		var updated = postUpdateRepository.updateBodyByOwner(
+				postId, userPrincipal.getUserId(), postUpdateRequest.body(), ZonedDateTime.now())
+			.orElseThrow(() -> notFoundOrNotAllowed(postId));
+		recentPostCache.evict(userPrincipal.getUserId());
+
+		return updated;
 	}
 
 	// 삭제
-	public void deletePost(Long postId, UserEntity userEntity) {
-		var postEntity = getPostByPostIdWithThrow(postId);
-
-		// 작성자 확인 후 Delete 진행
+	// 작성자 조건을 포함한 단일 soft delete UPDATE
+	public void deletePost(Long postId, UserPrincipal userPrincipal) {
 		// TODO : 관리자 권한을 가진 사용자라면 허용 분기 등 처리 해보기
-		if (!postEntity.getUser().equals(userEntity)) {
-			throw new UserNotAllowedException();
+		var deleted = postEntityRepository.softDeleteByOwner(postId, userPrincipal.getUserId(), ZonedDateTime.now());
+		if (deleted == 0) {
+			throw notFoundOrNotAllowed(postId);
 		}
-
-		postEntityRepository.delete(postEntity);
+		recentPostCache.evict(userPrincipal.getUserId());
 	}
 
-	// postId 로 검색
-	private PostEntity getPostByPostIdWithThrow(Long postId) {
-		return postEntityRepository.findById(postId)
-			.orElseThrow(() -> new PostNotFoundException(postId));
+	// 수정, 삭제된 행이 없는 경우에만 존재 여부를 추가 조회해서 없는 Post 와 작성자 불일치를 구분
+	private ClientErrorException notFoundOrNotAllowed(Long postId) {
+		if (postEntityRepository.existsById(postId)) {
+			return new UserNotAllowedException();
+		}
+		return new PostNotFoundException(postId);
 	}
 
+	@Transactional(readOnly = true)
 	public List<PostResponse> getPostsByUsername(String username) {
-		var userEntity = userEntityRepository.findByUsername(username)
+		var userId = userEntityRepository.findUserIdByUsername(username)
 			.orElseThrow(() -> new UserNotFoundException(username));
 
-		var posts = postEntityRepository.findByUser(userEntity);
+		return postEntityRepository.findResponsesByUserId(userId);
+	}
 
-		return posts
-			.stream()
-			.map(PostResponse::from)
-			.toList();
+	/**
+	 * 사용자 Post 전체 스트리밍 ( NDJSON 내보내기 )
+	 * postId Keyset 청크 단위로 조회하므로 게시글 수와 관계없이 메모리 사용량은 청크 크기로 제한된다.
+	 * 청크 조회마다 커넥션을 빌려 바로 반환하고, 클라이언트 속도에 맞춰 쓰는 동안에는 커넥션, 트랜잭션을 잡지 않는다.
+	 */
+	public void streamPostsByUserId(Long userId, Consumer<PostResponse> consumer) {
+		var limit = Limit.of(EXPORT_CHUNK_SIZE);
+		var chunk = postEntityRepository.findLatestByUserId(userId, limit);
+		while (!chunk.isEmpty()) {
+			chunk.forEach(consumer);
+			if (chunk.size() < EXPORT_CHUNK_SIZE) {
+				return;
+			}
+			chunk = postEntityRepository.findLatestByUserIdBefore(userId, chunk.getLast().postId(), limit);
+		}
 	}
 }
@@ -0,0 +1,88 @@
+package com.imwoo.threads.service;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import com.imwoo.threads.cache.RecentPostCache;
+import com.imwoo.threads.config.AsyncConfiguration;
+import com.imwoo.threads.config.properties.TimelineProperties;
+import com.imwoo.threads.model.post.response.PostResponse;
+import com.imwoo.threads.repository.FollowCountEntityRepository;
+import com.imwoo.threads.repository.FollowEntityRepository;
+import com.imwoo.threads.repository.TimelineInboxRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hybrid Fan-out
+ * 일반 작성자는 Post 작성 시 작성자 본인과 팔로워들의 타임라인 Inbox 에 비동기로 적재한다. ( Fan-out-on-write )
+ * 팔로워 수가 임계치를 넘는 작성자는 본인 Inbox 에만 적재하고,
+ * 팔로워의 홈 타임라인 조회 시점에 최근 Post 캐시에서 병합한다. ( Fan-out-on-read )
+ * 적재 시에는 Inbox 를 정리하지 않는다. ( TimelineInboxTrimService 가 주기적으로 정리 )
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TimelineFanOutService {
+
+	private final FollowEntityRepository followEntityRepository;
+	private final FollowCountEntityRepository followCountEntityRepository;
+	private final TimelineInboxRepository timelineInboxRepository;
+	private final RecentPostCache recentPostCache;
+	private final TimelineProperties timelineProperties;
+
+	@Async(AsyncConfiguration.TIMELINE_FAN_OUT_EXECUTOR)
+	public void fanOut(PostResponse post) {
+		deliverAll(List.of(post));
+	}
+
+	/**
+	 * 같은 작성자의 일괄 작성 Post 를 한 번의 Fan-out 으로 적재
+	 * 팔로워 조회, Inbox 정리를 Post 마다 반복하지 않고 팔로워 묶음당 한 번 실행한다.
+	 */
+	@Async(AsyncConfiguration.TIMELINE_FAN_OUT_EXECUTOR)
+	public void fanOutAll(List<PostResponse> posts) {
+		deliverAll(posts);
+	}
+
+	private void deliverAll(List<PostResponse> posts) {
+		var authorId = posts.getFirst().user().userId();
+
+		// 작성자 본인 Inbox
+		timelineInboxRepository.insertAll(List.of(authorId), posts);
+
+		// 고팔로워 작성자는 팔로워 Inbox 적재 생략
+		var followerCount = followCountEntityRepository.getFollowerCount(authorId);
+		if (followerCount > timelineProperties.hybrid().highFollowerThreshold()) {
+			posts.forEach(recentPostCache::push);
+			log.debug("fan-out skipped posts : {}, authorId : {}, followerCount : {}", posts.size(), authorId,
+				followerCount);
+			return;
+		}
+
+		// 팔로워 Inbox, batchSize 단위 Keyset 조회 후 묶음 적재
+		var batchSize = timelineProperties.fanOut().batchSize();
+		var delivered = 1;
+		var afterFollowerId = 0L;
+		while (true) {
+			var followerIds = followEntityRepository.findFollowerIds(authorId, afterFollowerId, Limit.of(batchSize));
+			if (followerIds.isEmpty()) {
+				break;
+			}
+
+			timelineInboxRepository.insertAll(followerIds, posts);
+			delivered += followerIds.size();
+
+			if (followerIds.size() < batchSize) {
+				break;
+			}
+			afterFollowerId = followerIds.get(followerIds.size() - 1);
+		}
+
+		log.debug("fan-out posts : {}, authorId : {}, delivered : {}", posts.size(), authorId, delivered);
+	}
+}
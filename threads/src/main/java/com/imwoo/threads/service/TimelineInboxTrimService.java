@@ -0,0 +1,45 @@
+package com.imwoo.threads.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.imwoo.threads.config.properties.TimelineProperties;
+import com.imwoo.threads.repository.TimelineInboxRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 타임라인 Inbox 주기 정리
+ * Fan-out 묶음마다 정리하면 적재보다 정리 ( 사용자별 ROW_NUMBER 계산 ) 비용이 커지므로,
+ * highWaterMark 를 넘은 사용자만 모아 inboxMaxSize 건으로 정리한다.
+ * 노드마다 실행되지만 같은 조건의 DELETE 이므로 중복 실행되어도 결과는 같다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TimelineInboxTrimService {
+
+	private final TimelineInboxRepository timelineInboxRepository;
+	private final TimelineProperties timelineProperties;
+
+	@Scheduled(fixedDelayString = "${threads.timeline.trim.interval:5m}",
+		initialDelayString = "${threads.timeline.trim.interval:5m}")
+	public void trimInboxes() {
+		var userIds = timelineInboxRepository.findUserIdsOverSize(timelineProperties.trim().highWaterMark());
+		if (userIds.isEmpty()) {
+			return;
+		}
+
+		// Fan-out 과 같은 묶음 크기로 나누어 DELETE 한 번의 범위를 제한
+		var batchSize = timelineProperties.fanOut().batchSize();
+		var inboxMaxSize = timelineProperties.inboxMaxSize();
+		var trimmed = 0;
+		for (var from = 0; from < userIds.size(); from += batchSize) {
+			var batch = userIds.subList(from, Math.min(from + batchSize, userIds.size()));
+			trimmed += timelineInboxRepository.trim(batch, inboxMaxSize);
+		}
+
+		log.debug("inbox trimmed users : {}, deleted : {}", userIds.size(), trimmed);
+	}
+}
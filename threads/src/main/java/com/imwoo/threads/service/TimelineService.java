@@ -0,0 +1,112 @@
+package com.imwoo.threads.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.imwoo.threads.cache.RecentPostCache;
+import com.imwoo.threads.config.properties.TimelineProperties;
+import com.imwoo.threads.model.page.CursorPageResponse;
+import com.imwoo.threads.model.post.PostCursor;
+import com.imwoo.threads.model.post.response.PostResponse;
+import com.imwoo.threads.model.user.UserPrincipal;
+import com.imwoo.threads.repository.FollowEntityRepository;
+import com.imwoo.threads.repository.TimelineEntityRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Hybrid 홈 타임라인
+ * Inbox ( Fan-out-on-write ) 한 페이지와 팔로잉 중인 고팔로워 작성자들의 최근 Post 캐시 ( Fan-out-on-read ) 를
+ * postId ( 시간 순서 Snowflake 식별자 ) 기준 k-way merge 하여 한 페이지를 만든다.
+ * 고팔로워 작성자의 Post 는 캐시 보관 건수 ( recentPostsPerAuthor ) 범위까지만 타임라인에 노출된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TimelineService {
+
+	// 최신순 ( postId 내림차순 )
+	static final Comparator<PostResponse> LATEST_FIRST = Comparator
+		.comparing(PostResponse::postId)
+		.reversed();
+
+	private final TimelineEntityRepository timelineEntityRepository;
+	private final FollowEntityRepository followEntityRepository;
+	private final RecentPostCache recentPostCache;
+	private final TimelineProperties timelineProperties;
+
+	// 홈 타임라인 조회 (Keyset 페이지)
+	@Transactional(readOnly = true)
+	public CursorPageResponse<PostResponse> getTimeline(String cursor, Integer size, UserPrincipal userPrincipal) {
+		var pageSize = CursorPageResponse.boundedSize(size);
+		var limit = Limit.of(pageSize + 1);
+		var postCursor = cursor == null || cursor.isBlank() ? null : PostCursor.decode(cursor);
+
+		// 1. Inbox 한 페이지
+		List<PostResponse> inbox;
+		if (postCursor == null) {
+			inbox = timelineEntityRepository.findTimeline(userPrincipal.getUserId(), limit);
+		} else {
+			inbox = timelineEntityRepository.findTimelineBefore(userPrincipal.getUserId(), postCursor.postId(), limit);
+		}
+
+		var sources = new ArrayList<List<PostResponse>>();
+		sources.add(inbox);
+
+		// 2. 팔로잉 중인 고팔로워 작성자 최근 Post
+		var highFollowerIds = followEntityRepository.findHighFollowerFollowingIds(userPrincipal.getUserId(),
+			timelineProperties.hybrid().highFollowerThreshold());
+		for (var authorId : highFollowerIds) {
+			sources.add(recentPostCache.get(authorId)
+				.stream()
+				.filter(post -> isBefore(post, postCursor))
+				.toList());
+		}
+
+		// 3. k-way merge
+		var posts = merge(sources, pageSize + 1);
+		return CursorPageResponse.of(posts, pageSize, post -> PostCursor.from(post).encode());
+	}
+
+	/**
+	 * 최신순 정렬된 목록들을 최신순으로 병합하여 최대 limit 건 반환
+	 * 작성자가 고팔로워로 전환되기 전 Inbox 에 적재된 Post 와 캐시 Post 가 겹칠 수 있어 postId 기준 중복 제거
+	 */
+	static List<PostResponse> merge(List<List<PostResponse>> sources, int limit) {
+		var heap = new PriorityQueue<Head>(Math.max(1, sources.size()),
+			Comparator.comparing(Head::post, LATEST_FIRST));
+		for (var source : sources) {
+			var iterator = source.iterator();
+			if (iterator.hasNext()) {
+				heap.add(new Head(iterator.next(), iterator));
+			}
+		}
+
+		var merged = new ArrayList<PostResponse>(limit);
+		var seen = new HashSet<Long>();
+		while (!heap.isEmpty() && merged.size() < limit) {
+			var head = heap.poll();
+			if (seen.add(head.post().postId())) {
+				merged.add(head.post());
+			}
+			if (head.rest().hasNext()) {
+				heap.add(new Head(head.rest().next(), head.rest()));
+			}
+		}
+		return merged;
+	}
+
+	private static boolean isBefore(PostResponse post, PostCursor postCursor) {
+		return postCursor == null || post.postId() < postCursor.postId();
+	}
+
+	private record Head(PostResponse post, Iterator<PostResponse> rest) {
+	}
+}
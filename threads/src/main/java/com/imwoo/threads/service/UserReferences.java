@@ -0,0 +1,22 @@
+package com.imwoo.threads.service;
+
+import com.imwoo.threads.model.entity.UserEntity;
+import com.imwoo.threads.model.user.UserPrincipal;
+import com.imwoo.threads.repository.UserEntityRepository;
+
+/**
+ * 인증된 Principal 을 연관관계 설정용 UserEntity 로 변환 ( PostService 단건, 일괄 작성 공용 )
+ */
+final class UserReferences {
+
+	private UserReferences() {
+	}
+
+	// 캐시 / Claims Principal 은 조회 없이 참조 ( Proxy ) 로 연관관계 설정
+	static UserEntity toUserEntity(UserPrincipal userPrincipal, UserEntityRepository userEntityRepository) {
+		if (userPrincipal instanceof UserEntity userEntity) {
+			return userEntity;
+		}
+		return userEntityRepository.getReferenceById(userPrincipal.getUserId());
+	}
+}
@@ -1,39 +1,62 @@
 package com.imwoo.threads.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.imwoo.threads.cache.PrincipalCache;
+import com.imwoo.threads.cache.UsernameIndex;
+import com.imwoo.threads.config.properties.UserSearchProperties;
 import com.imwoo.threads.exception.user.UserDuplicatedException;
 import com.imwoo.threads.exception.user.UserNotAllowedException;
 import com.imwoo.threads.exception.user.UserNotFoundException;
 import com.imwoo.threads.model.entity.UserEntity;
+import com.imwoo.threads.model.page.CursorPageResponse;
+import com.imwoo.threads.model.user.CachedUserPrincipal;
 import com.imwoo.threads.model.user.User;
+import com.imwoo.threads.model.user.UserCursor;
+import com.imwoo.threads.model.user.UserPrincipal;
 import com.imwoo.threads.model.user.request.UserUpdateRequest;
 import com.imwoo.threads.model.user.response.UserAuthenticationResponse;
 import com.imwoo.threads.repository.UserEntityRepository;
+import com.imwoo.threads.repository.UserSearchRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed(value = "threads.service", histogram = true)
 @RequiredArgsConstructor
 /**
  * InMemoryUserDetailsManager 를 대체할 UserDetailsService
  */
 public class UserService implements UserDetailsService {
 
+	// NDJSON 스트리밍 청크 크기
+	static final int EXPORT_CHUNK_SIZE = 500;
+
 	private final UserEntityRepository userEntityRepository;
-	private final BCryptPasswordEncoder passwordEncoder;
+	private final UserSearchRepository userSearchRepository;
+	private final PasswordHashingService passwordHashingService;
 	private final JwtService jwtService;
+	private final PrincipalCache principalCache;
+	private final UsernameIndex usernameIndex;
+	private final UserSearchProperties userSearchProperties;
 
+	/**
+	 * 인증 요청마다 호출되므로 Principal 캐시를 먼저 확인하고, 미스인 경우에만 DB 조회
+	 */
 	@Override
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-		return userEntityRepository.findByUsername(username)
-			.orElseThrow(() -> new UserNotFoundException(username));
+		return principalCache.get(username, key -> userEntityRepository.findByUsername(key)
+			.map(CachedUserPrincipal::from)
+			.orElseThrow(() -> new UserNotFoundException(key)));
 	}
 
 	public User signUp(String username, String password) {
@@ -44,7 +67,7 @@ public class UserService implements UserDetailsService {
 				}
 			);
 
-		var userEntity = UserEntity.of(username, passwordEncoder.encode(password));
+		var userEntity = UserEntity.of(username, passwordHashingService.encode(password));
 		userEntityRepository.save(userEntity);
 
 		return User.from(userEntity);
@@ -55,7 +78,13 @@ public class UserService implements UserDetailsService {
 			.orElseThrow(() -> new UserNotFoundException(username));
 
 		// 패스워드 일치 확인
-		if (passwordEncoder.matches(password, userEntity.getPassword())) {
+		if (passwordHashingService.matches(password, userEntity.getPassword())) {
+			// cost factor 변경 시 로그인 성공 시점에 새 설정으로 재해싱
+			if (passwordHashingService.needsRehash(userEntity.getPassword())) {
+				userEntity.setPassword(passwordHashingService.encode(password));
+				userEntityRepository.save(userEntity);
+			}
+
 			var accessToken = jwtService.generateAccessToken(userEntity);
 			return new UserAuthenticationResponse(accessToken);
 		} else {
@@ -65,43 +94,77 @@ public class UserService implements UserDetailsService {
 		}
 	}
 
-	public List<User> getUsers(String query) {
-		List<UserEntity> userEntities;
-
+	// 조회 전용 메서드는 readOnly 트랜잭션 + DTO Projection 으로 엔티티 스냅샷, password 컬럼 조회를 생략
+	@Transactional(readOnly = true)
+	public CursorPageResponse<User> getUsers(String query, String cursor, Integer size) {
 		if (query != null && !query.isBlank()) {
-			// TODO : query 검색어 기반, 해당 검색하기 username 에 포함되는 유저목록 가져오기.
-			// 쿼리 Like 예약어로 간단한 검색은 가능하지만 차후 elasticsearch 기반 엔진을 사용해서 좀더 검색에 용이한 방식으로 구현해보기
-			userEntities = userEntityRepository.findByUsernameContaining(query);
-		} else {
-			// 전체 유저 검색
-			userEntities = userEntityRepository.findAll();
+			// 검색 결과는 maxResults 로 제한된 한 페이지
+			return new CursorPageResponse<>(searchUsers(query), null);
 		}
 
-		return userEntities
-			.stream()
-			.map(User::from)
-			.toList();
+		// 전체 유저 목록 (Keyset 페이지)
+		var pageSize = CursorPageResponse.boundedSize(size);
+		var limit = Limit.of(pageSize + 1);
+		var users = cursor == null || cursor.isBlank()
+			? userEntityRepository.findUsers(limit)
+			: userEntityRepository.findUsersAfter(UserCursor.decode(cursor).userId(), limit);
+		return CursorPageResponse.of(users, pageSize, user -> UserCursor.from(user).encode());
 	}
 
+	/**
+	 * 전체 유저 스트리밍 ( NDJSON )
+	 * userId Keyset 청크 단위로 조회하므로 사용자 수와 관계없이 메모리 사용량은 청크 크기로 제한된다.
+	 * 청크 조회마다 커넥션을 빌려 바로 반환하고, 클라이언트 속도에 맞춰 쓰는 동안에는 커넥션, 트랜잭션을 잡지 않는다.
+	 */
+	public void streamUsers(Consumer<User> consumer) {
+		var limit = Limit.of(EXPORT_CHUNK_SIZE);
+		var chunk = userEntityRepository.findUsers(limit);
+		while (!chunk.isEmpty()) {
+			chunk.forEach(consumer);
+			if (chunk.size() < EXPORT_CHUNK_SIZE) {
+				return;
+			}
+			chunk = userEntityRepository.findUsersAfter(chunk.getLast().userId(), limit);
+		}
+	}
+
+	private List<User> searchUsers(String query) {
+		// pg_trgm 인덱스 검색 ( 부분 일치 + 유사도 순 )
+		// trigram 보다 짧은 검색어는 인덱스로 후보를 좁힐 수 없어 전체 스캔이 되므로 DB 조회 없이 빈 결과
+		var trimmed = query.strip();
+		if (trimmed.length() < UserSearchRepository.TRIGRAM_LENGTH) {
+			return List.of();
+		}
+		return userSearchRepository.searchByUsername(trimmed);
+	}
+
+	// 프로세스 내 username 인덱스 조회 ( DB 조회 없음 )
+	public List<String> autocomplete(String prefix) {
+		if (prefix == null || prefix.isBlank()) {
+			return List.of();
+		}
+		return usernameIndex.autocomplete(prefix.strip(), userSearchProperties.autocompleteMaxResults());
+	}
+
+	@Transactional(readOnly = true)
 	public User getUser(String username) {
-		var userEntity = userEntityRepository.findByUsername(username)
+		return userEntityRepository.findUserByUsername(username)
 			.orElseThrow(() -> new UserNotFoundException(username));
-
-		return User.from(userEntity);
 	}
 
-	public User updateUser(String username, UserUpdateRequest userUpdateRequest, UserEntity currentUserEntity) {
+	public User updateUser(String username, UserUpdateRequest userUpdateRequest, UserPrincipal currentUser) {
 		var userEntity = userEntityRepository.findByUsername(username)
 			.orElseThrow(() -> new UserNotFoundException(username));
 
 		// TODO : 동일 사용자만 수정 권한 부여
-		if (!currentUserEntity.equals(userEntity)) {
+		if (!userEntity.getUserId().equals(currentUser.getUserId())) {
 			throw new UserNotAllowedException();
 		}
 
 		if (userUpdateRequest.description() != null) {
 			// TODO 트랜잭션 사용해서 JPA 영속성 컨텍스트의 더티 체킹 활용 해보기. / 현재는 Merge 방식으로 적용
 			userEntity.setDescription(userUpdateRequest.description());
+			// Principal 캐시는 PrincipalCacheInvalidationListener 가 커밋 이후 무효화
 			userEntityRepository.save(userEntity);
 		}
 
@@ -0,0 +1,7 @@
+-- ddl-auto create / create-drop 시 Hibernate 가 스키마 생성 후 실행 ( 한 줄에 한 문장 )
+-- Post 본문 전문 검색 : 한국어 형태소 사전이 없으므로 simple 설정 ( 소문자화 + 공백 / 구두점 토큰화 )
+ALTER TABLE post ADD COLUMN bodySearch tsvector GENERATED ALWAYS AS (to_tsvector('simple', coalesce(body, ''))) STORED;
+CREATE INDEX post_bodysearch_idx ON post USING GIN (bodySearch);
+-- username 부분 일치 / 유사도 검색 : pg_trgm GIN 인덱스 ( LIKE '%q%', % 연산자, similarity 모두 사용 가능 )
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX user_username_trgm_idx ON "user" USING GIN (username gin_trgm_ops);
@@ -0,0 +1,123 @@
+package com.imwoo.threads.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.imwoo.threads.model.entity.PostEntity;
+import com.imwoo.threads.model.entity.UserEntity;
+import com.imwoo.threads.model.post.response.PostResponse;
+import com.imwoo.threads.repository.PostEntityRepository;
+import com.imwoo.threads.repository.UserEntityRepository;
+
+import jakarta.persistence.EntityManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 조회 경로별 요청 1건당 힙 할당량 비교 ( 엔티티 조회 + 변환 vs DTO Projection + readOnly 트랜잭션 )
+ * 실제 PostgreSQL 이 필요하므로 기본 test 에서 제외하고 ./gradlew benchmarkTest 로 실행한다.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReadPathAllocationBenchmark {
+
+	private static final int POST_COUNT = 100;
+	private static final int PAGE_SIZE = 20;
+	private static final int WARMUP = 200;
+	private static final int ITERATIONS = 1000;
+
+	private final com.sun.management.ThreadMXBean threadMXBean =
+		(com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+
+	@Autowired
+	private PostEntityRepository postEntityRepository;
+	@Autowired
+	private UserEntityRepository userEntityRepository;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private EntityManager entityManager;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private UserEntity author;
+
+	@BeforeAll
+	void setUp() {
+		author = userEntityRepository.save(UserEntity.of("benchmark-" + System.nanoTime(), "benchmark"));
+		for (int i = 0; i < POST_COUNT; i++) {
+			postEntityRepository.save(PostEntity.of("benchmark body ".repeat(20) + i, author));
+		}
+	}
+
+	// 엔티티 삭제는 soft delete ( @SQLDelete ) 라 행이 남으므로 직접 삭제한다.
+	@AfterAll
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM post WHERE userId = ?", author.getUserId());
+		jdbcTemplate.update("DELETE FROM \"user\" WHERE userId = ?", author.getUserId());
+	}
+
+	@Test
+	@DisplayName("[Benchmark] 전체 Post 조회 경로별 요청당 할당량")
+	void readPathAllocationPerRequest() {
+		var readWrite = new TransactionTemplate(transactionManager);
+		var readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+
+		// 기존 경로 : 관리 엔티티 적재 ( 스냅샷, password 포함 ) 후 응답 레코드로 변환
+		Supplier<List<PostResponse>> entityPath = () -> readWrite.execute(status ->
+			entityManager.createQuery("""
+					SELECT p FROM PostEntity p
+					JOIN FETCH p.user
+					ORDER BY p.postId DESC
+					""", PostEntity.class)
+				.setMaxResults(PAGE_SIZE + 1)
+				.getResultStream()
+				.map(PostResponse::from)
+				.toList());
+		// 변경 경로 : 생성자 표현식으로 응답 레코드 바로 매핑
+		Supplier<List<PostResponse>> projectionPath = () -> readOnly.execute(status ->
+			postEntityRepository.findLatest(Limit.of(PAGE_SIZE + 1)));
+
+		var entityBytes = allocatedBytesPerRequest(entityPath);
+		var projectionBytes = allocatedBytesPerRequest(projectionPath);
+
+		log.info("entity path : {} bytes/request, projection path : {} bytes/request ({}%)",
+			entityBytes, projectionBytes, projectionBytes * 100 / entityBytes);
+
+		assertThat(projectionBytes).isLessThan(entityBytes);
+	}
+
+	private long allocatedBytesPerRequest(Supplier<List<PostResponse>> read) {
+		for (int i = 0; i < WARMUP; i++) {
+			read.get();
+		}
+
+		var threadId = Thread.currentThread().threadId();
+		var before = threadMXBean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < ITERATIONS; i++) {
+			read.get();
+		}
+		var after = threadMXBean.getThreadAllocatedBytes(threadId);
+
+		return (after - before) / ITERATIONS;
+	}
+}
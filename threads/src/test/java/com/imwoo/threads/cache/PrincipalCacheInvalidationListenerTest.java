@@ -0,0 +1,79 @@
+package com.imwoo.threads.cache;
+
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.imwoo.threads.model.entity.UserEntity;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheInvalidationListenerTest {
+
+	private PrincipalCacheInvalidationListener listener;
+	@Mock
+	private PrincipalCache principalCache;
+
+	@BeforeEach
+	void setUp() {
+		var beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerSingleton("principalCache", principalCache);
+		listener = new PrincipalCacheInvalidationListener(beanFactory.getBeanProvider(PrincipalCache.class));
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("[Success] 트랜잭션 커밋 이후 Principal 캐시 무효화 테스트")
+	void evictAfterCommitTestSuccess() {
+		// given
+		TransactionSynchronizationManager.initSynchronization();
+
+		// when
+		listener.evict(UserEntity.of("admin", "password"));
+
+		// then
+		verifyNoInteractions(principalCache);
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		verify(principalCache, only()).evict("admin");
+	}
+
+	@Test
+	@DisplayName("[Success] 트랜잭션 롤백 시 Principal 캐시 유지 테스트")
+	void keepOnRollbackTestSuccess() {
+		// given
+		TransactionSynchronizationManager.initSynchronization();
+
+		// when
+		listener.evict(UserEntity.of("admin", "password"));
+		TransactionSynchronizationManager.getSynchronizations()
+			.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		// then
+		verifyNoInteractions(principalCache);
+	}
+
+	@Test
+	@DisplayName("[Success] 트랜잭션 밖 Principal 캐시 즉시 무효화 테스트")
+	void evictWithoutTransactionTestSuccess() {
+		// when
+		listener.evict(UserEntity.of("admin", "password"));
+
+		// then
+		verify(principalCache, only()).evict("admin");
+	}
+}
@@ -0,0 +1,73 @@
+package com.imwoo.threads.cache;
+
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.imwoo.threads.model.entity.UserEntity;
+
+@ExtendWith(MockitoExtension.class)
+class UsernameIndexListenerTest {
+
+	private UsernameIndexListener listener;
+	@Mock
+	private UsernameIndex usernameIndex;
+
+	@BeforeEach
+	void setUp() {
+		var beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerSingleton("usernameIndex", usernameIndex);
+		listener = new UsernameIndexListener(beanFactory.getBeanProvider(UsernameIndex.class));
+		TransactionSynchronizationManager.initSynchronization();
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	@Test
+	@DisplayName("[Success] 트랜잭션 커밋 이후 가입 username 인덱스 추가 테스트")
+	void addAfterCommitTestSuccess() {
+		// when
+		listener.add(UserEntity.of("admin", "password"));
+
+		// then
+		verifyNoInteractions(usernameIndex);
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		verify(usernameIndex, only()).add("admin");
+	}
+
+	@Test
+	@DisplayName("[Success] 트랜잭션 롤백 시 삭제 username 인덱스 유지 테스트")
+	void keepOnRollbackTestSuccess() {
+		// when
+		listener.remove(UserEntity.of("admin", "password"));
+		TransactionSynchronizationManager.getSynchronizations()
+			.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		// then
+		verifyNoInteractions(usernameIndex);
+	}
+
+	@Test
+	@DisplayName("[Success] 트랜잭션 커밋 이후 삭제 username 인덱스 제거 테스트")
+	void removeAfterCommitTestSuccess() {
+		// when
+		listener.remove(UserEntity.of("admin", "password"));
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		// then
+		verify(usernameIndex, only()).remove("admin");
+	}
+}
@@ -0,0 +1,73 @@
+package com.imwoo.threads.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.imwoo.threads.repository.UserEntityRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UsernameIndexTest {
+
+	private UsernameIndex usernameIndex;
+	@Mock
+	private UserEntityRepository userEntityRepository;
+
+	@BeforeEach
+	void setUp() {
+		when(userEntityRepository.findAllUsernames()).thenReturn(List.of("bob", "admin", "adam", "adminB", "ad"));
+		usernameIndex = new UsernameIndex(userEntityRepository);
+		usernameIndex.load();
+	}
+
+	@Test
+	@DisplayName("[Success] prefix 자동완성 사전 순 / 건수 제한 테스트")
+	void autocompletePrefixTestSuccess() {
+		assertThat(usernameIndex.autocomplete("ad", 10)).containsExactly("ad", "adam", "admin", "adminB");
+		assertThat(usernameIndex.autocomplete("adm", 1)).containsExactly("admin");
+		assertThat(usernameIndex.autocomplete("z", 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("[Success] 가입 / 삭제 증분 반영 테스트")
+	void autocompleteIncrementalTestSuccess() {
+		// when
+		usernameIndex.add("adele");
+		usernameIndex.remove("adam");
+
+		// then
+		assertThat(usernameIndex.autocomplete("ad", 10)).containsExactly("ad", "adele", "admin", "adminB");
+	}
+
+	@Test
+	@DisplayName("[Success] 중복 추가 / 없는 username 삭제 무시 테스트")
+	void autocompleteIdempotentTestSuccess() {
+		// when
+		usernameIndex.add("admin");
+		usernameIndex.remove("zed");
+
+		// then
+		assertThat(usernameIndex.autocomplete("", 10)).containsExactly("ad", "adam", "admin", "adminB", "bob");
+	}
+
+	@Test
+	@DisplayName("[Success] 재적재 시 다른 노드 가입 / 삭제 반영 테스트")
+	void reloadTestSuccess() {
+		// mocking
+		when(userEntityRepository.findAllUsernames()).thenReturn(List.of("bob", "adminB", "adele"));
+
+		// when
+		usernameIndex.load();
+
+		// then
+		assertThat(usernameIndex.autocomplete("ad", 10)).containsExactly("adele", "adminB");
+	}
+}
@@ -0,0 +1,40 @@
+package com.imwoo.threads.common.sql;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.function.Supplier;
+
+import com.imwoo.threads.monitor.StatementCounter;
+
+/**
+ * 실행 구간의 SQL 문 수 검증 유틸 ( Hibernate, JdbcTemplate 포함 )
+ * DataSource 를 StatementCountingDataSource 로 감싼 테스트에서 사용
+ * ( @DataJpaTest 는 @Import(StatementCountDataSourcePostProcessor.class) )
+ *
+ * var posts = assertStatementCount(1, () -> postEntityRepository.findLatest(Limit.of(21)));
+ */
+public final class StatementCountAssertions {
+
+	private StatementCountAssertions() {
+	}
+
+	public static <T> T assertStatementCount(int expected, Supplier<T> action) {
+		StatementCounter.start();
+		try {
+			var result = action.get();
+			assertThat(StatementCounter.current())
+				.as("executed SQL statements")
+				.isEqualTo(expected);
+			return result;
+		} finally {
+			StatementCounter.stop();
+		}
+	}
+
+	public static void assertStatementCount(int expected, Runnable action) {
+		assertStatementCount(expected, () -> {
+			action.run();
+			return null;
+		});
+	}
+}
@@ -7,6 +7,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +26,7 @@ import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -31,10 +34,15 @@ import com.imwoo.threads.common.context.support.annotation.WithMockAdmin;
 import com.imwoo.threads.config.TestWebSecurityConfiguration;
 import com.imwoo.threads.exception.post.PostNotFoundException;
 import com.imwoo.threads.model.entity.UserEntity;
+import com.imwoo.threads.model.page.CursorPageResponse;
+import com.imwoo.threads.model.post.request.PostBatchCreateRequest;
 import com.imwoo.threads.model.post.request.PostCreateRequest;
+import com.imwoo.threads.model.post.request.PostMultiGetRequest;
 import com.imwoo.threads.model.post.request.PostUpdateRequest;
+import com.imwoo.threads.model.post.response.PostLookupResponse;
 import com.imwoo.threads.model.post.response.PostResponse;
 import com.imwoo.threads.model.user.User;
+import com.imwoo.threads.service.PostSearchService;
 import com.imwoo.threads.service.PostService;
 
 import lombok.extern.slf4j.Slf4j;
@@ -48,6 +56,8 @@ class PostControllerTest {
 	private final static String CHARSET_UTF8 = StandardCharsets.UTF_8.name();
 	@MockBean
 	private PostService postService;
+	@MockBean
+	private PostSearchService postSearchService;
 
 	@Autowired
 	private MockMvc mockMvc;
@@ -65,19 +75,57 @@ class PostControllerTest {
 	void getMultiPostRequestTestSuccess() throws Exception {
 		// given
 		var url = "/api/v1/posts";
+		var cursor = "cursor";
+
+		// mocking
+		Mockito.when(postService.getPosts(any(), any()))
+			.thenReturn(new CursorPageResponse<>(List.of(
+				new PostResponse(1L, "test", null, ZonedDateTime.now(), ZonedDateTime.now(), null)), "next"));
 
 		// when
 		mockMvc.perform(
 				MockMvcRequestBuilders.get(url)
 					.header(HttpHeaders.AUTHORIZATION, "Bearer {ACCESS_TOKEN}")
+					.param("cursor", cursor)
+					.param("size", "10")
 			)
 			.andExpect(MockMvcResultMatchers.status().isOk())
 			.andExpect(MockMvcResultMatchers.content().contentType(CONTENT_TYPE_JSON))
+			.andExpect(jsonPath("$.items.length()").value(1))
+			.andExpect(jsonPath("$.next").value("next"))
+			.andDo(print());
+
+		// then
+		Mockito.verify(postService, Mockito.only()).getPosts(cursor, 10);
+		Mockito.verify(postService, Mockito.timeout(3000)).getPosts(cursor, 10);
+	}
+
+	@Test
+	@DisplayName("[Success] Post 검색 요청 테스트")
+	@WithMockAdmin
+	void searchPostRequestTestSuccess() throws Exception {
+		// given
+		var url = "/api/v1/posts/search";
+		var query = "threads";
+
+		// mocking
+		Mockito.when(postSearchService.searchPosts(any(), any(), any()))
+			.thenReturn(new CursorPageResponse<>(List.of(
+				new PostResponse(1L, "threads", null, ZonedDateTime.now(), ZonedDateTime.now(), null)), null));
+
+		// when
+		mockMvc.perform(
+				MockMvcRequestBuilders.get(url)
+					.header(HttpHeaders.AUTHORIZATION, "Bearer {ACCESS_TOKEN}")
+					.param("q", query)
+			)
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(jsonPath("$.items.length()").value(1))
 			.andDo(print());
 
 		// then
-		Mockito.verify(postService, Mockito.only()).getPosts();
-		Mockito.verify(postService, Mockito.timeout(3000)).getPosts();
+		Mockito.verify(postSearchService, Mockito.only()).searchPosts(query, null, null);
+		Mockito.verifyNoInteractions(postService);
 	}
 
 	@Test
@@ -162,6 +210,115 @@ class PostControllerTest {
 		Mockito.verify(postService, Mockito.timeout(3000)).createPost(Mockito.any(), Mockito.any());
 	}
 
+	@Test
+	@DisplayName("[Success] Post 일괄 생성 요청 테스트")
+	@WithMockAdmin
+	void batchCreatePostRequestTestSuccess() throws Exception {
+		// given
+		var postBatchCreateRequest = new PostBatchCreateRequest(List.of(
+			new PostCreateRequest("일괄 생성 첫번째"), new PostCreateRequest("일괄 생성 두번째")));
+		var requestBody = readJson(postBatchCreateRequest);
+		var url = "/api/v1/posts/batch";
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		var user = User.from((UserEntity)authentication.getPrincipal());
+
+		// mocking ( Snowflake 식별자는 2^53 초과 )
+		Mockito.when(postService.createPosts(any(), any()))
+			.thenReturn(List.of(
+				new PostResponse(9007199254740993L, "일괄 생성 첫번째", user, ZonedDateTime.now(), ZonedDateTime.now(), null),
+				new PostResponse(9007199254740994L, "일괄 생성 두번째", user, ZonedDateTime.now(), ZonedDateTime.now(), null)));
+
+		// when
+		mockMvc.perform(
+				MockMvcRequestBuilders.post(url)
+					.header(HttpHeaders.AUTHORIZATION, "Bearer {ACCESS_TOKEN}")
+					.contentType(CONTENT_TYPE_JSON)
+					.characterEncoding(CHARSET_UTF8)
+					.content(requestBody)
+			).andDo(print())
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.content().contentType(CONTENT_TYPE_JSON))
+			.andExpect(jsonPath("$.length()").value(2))
+			.andExpect(jsonPath("$[0].postId").value("9007199254740993"))
+			.andExpect(jsonPath("$[0].body").value("일괄 생성 첫번째"))
+			.andExpect(jsonPath("$[0].user.username").value(user.username()))
+			.andExpect(jsonPath("$[1].postId").value("9007199254740994"))
+			.andExpect(jsonPath("$[1].deletedDateTime").doesNotExist());
+
+		// then
+		Mockito.verify(postService, Mockito.only()).createPosts(Mockito.eq(postBatchCreateRequest), any());
+	}
+
+	@Test
+	@DisplayName("[Failure] Post 일괄 생성 요청 빈 목록 테스트")
+	@WithMockAdmin
+	void batchCreatePostEmptyRequestTestFailure() throws Exception {
+		// given
+		var requestBody = readJson(new PostBatchCreateRequest(List.of()));
+		var url = "/api/v1/posts/batch";
+
+		// when
+		mockMvc.perform(
+				MockMvcRequestBuilders.post(url)
+					.contentType(CONTENT_TYPE_JSON)
+					.characterEncoding(CHARSET_UTF8)
+					.content(requestBody)
+			).andDo(print())
+			.andExpect(result -> {
+				Assertions.assertInstanceOf(MethodArgumentNotValidException.class, result.getResolvedException());
+			});
+
+		// then
+		Mockito.verifyNoInteractions(postService);
+	}
+
+	@Test
+	@DisplayName("[Failure] Post 일괄 생성 요청 최대 개수 초과 테스트")
+	@WithMockAdmin
+	void batchCreatePostOversizeRequestTestFailure() throws Exception {
+		// given
+		var posts = LongStream.rangeClosed(1, PostBatchCreateRequest.MAX_SIZE + 1)
+			.mapToObj(index -> new PostCreateRequest("일괄 생성 " + index))
+			.toList();
+		var requestBody = readJson(new PostBatchCreateRequest(posts));
+		var url = "/api/v1/posts/batch";
+
+		// when
+		mockMvc.perform(
+				MockMvcRequestBuilders.post(url)
+					.contentType(CONTENT_TYPE_JSON)
+					.characterEncoding(CHARSET_UTF8)
+					.content(requestBody)
+			).andDo(print())
+			.andExpect(result -> {
+				Assertions.assertInstanceOf(MethodArgumentNotValidException.class, result.getResolvedException());
+			});
+
+		// then
+		Mockito.verifyNoInteractions(postService);
+	}
+
+	@Test
+	@DisplayName("[Failure] Post 일괄 생성 인증 없는 요청 테스트")
+	@WithAnonymousUser
+	void batchCreatePostRequestAccessDenied401() throws Exception {
+		// given
+		var requestBody = readJson(new PostBatchCreateRequest(List.of(new PostCreateRequest("일괄 생성"))));
+		var url = "/api/v1/posts/batch";
+
+		// when
+		mockMvc.perform(
+				MockMvcRequestBuilders.post(url)
+					.contentType(CONTENT_TYPE_JSON)
+					.characterEncoding(CHARSET_UTF8)
+					.content(requestBody)
+			).andDo(print())
+			.andExpect(MockMvcResultMatchers.status().isUnauthorized());
+
+		// then
+		Mockito.verifyNoInteractions(postService);
+	}
+
 	@Test
 	@DisplayName("[Success] Post 수정 요청 테스트")
 	@WithMockAdmin
@@ -269,6 +426,64 @@ class PostControllerTest {
 		Mockito.verify(postService, Mockito.timeout(3000)).deletePost(anyLong(), any());
 	}
 
+	@Test
+	@DisplayName("[Success] Post 다건 조회 요청 테스트")
+	@WithMockAdmin
+	void multiGetPostRequestTestSuccess() throws Exception {
+		// given
+		var requestBody = readJson(new PostMultiGetRequest(List.of(2L, 9L, 1L)));
+		var url = "/api/v1/posts/_mget";
+		var user = new User(1L, "admin", null, null, ZonedDateTime.now(), ZonedDateTime.now());
+		var response = List.of(
+			PostLookupResponse.found(new PostResponse(2L, "second", user, ZonedDateTime.now(), ZonedDateTime.now(), null)),
+			PostLookupResponse.missing(9L),
+			PostLookupResponse.found(new PostResponse(1L, "first", user, ZonedDateTime.now(), ZonedDateTime.now(), null))
+		);
+
+		// mocking
+		Mockito.when(postService.getPostsByPostIds(any())).thenReturn(response);
+
+		// when
+		mockMvc.perform(
+				MockMvcRequestBuilders.post(url)
+					.contentType(CONTENT_TYPE_JSON)
+					.characterEncoding(CHARSET_UTF8)
+					.content(requestBody)
+			).andDo(print())
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(jsonPath("$[0].postId").value("2"))
+			.andExpect(jsonPath("$[1].found").value(false))
+			.andExpect(jsonPath("$[1].post").doesNotExist())
+			.andExpect(jsonPath("$[2].post.body").value("first"));
+
+		// then
+		Mockito.verify(postService, Mockito.only()).getPostsByPostIds(any());
+	}
+
+	@Test
+	@DisplayName("[Failure] Post 다건 조회 요청 최대 개수 초과 테스트")
+	@WithMockAdmin
+	void multiGetPostRequestTestFailure() throws Exception {
+		// given
+		var postIds = LongStream.rangeClosed(1, PostMultiGetRequest.MAX_SIZE + 1).boxed().toList();
+		var requestBody = readJson(new PostMultiGetRequest(postIds));
+		var url = "/api/v1/posts/_mget";
+
+		// when
+		mockMvc.perform(
+				MockMvcRequestBuilders.post(url)
+					.contentType(CONTENT_TYPE_JSON)
+					.characterEncoding(CHARSET_UTF8)
+					.content(requestBody)
+			).andDo(print())
+			.andExpect(result -> {
+				Assertions.assertInstanceOf(MethodArgumentNotValidException.class, result.getResolvedException());
+			});
+
+		// then
+		Mockito.verifyNoInteractions(postService);
+	}
+
 	@Test
 	@DisplayName("[Failure] Authorization 요청 테스트")
 	@WithAnonymousUser
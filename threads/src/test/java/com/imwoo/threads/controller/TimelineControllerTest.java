@@ -0,0 +1,153 @@
+package com.imwoo.threads.controller;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.test.context.support.WithAnonymousUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.imwoo.threads.common.context.support.annotation.WithMockAdmin;
+import com.imwoo.threads.config.TestWebSecurityConfiguration;
+import com.imwoo.threads.exception.page.InvalidCursorException;
+import com.imwoo.threads.model.entity.UserEntity;
+import com.imwoo.threads.model.page.CursorPageResponse;
+import com.imwoo.threads.model.post.response.PostResponse;
+import com.imwoo.threads.model.user.User;
+import com.imwoo.threads.service.TimelineService;
+
+import lombok.extern.slf4j.Slf4j;
+
+@WebMvcTest(TimelineController.class)
+@Import(TestWebSecurityConfiguration.class)
+@Slf4j
+class TimelineControllerTest {
+
+	private final static String CONTENT_TYPE_JSON = MediaType.APPLICATION_JSON_VALUE;
+	@MockBean
+	private TimelineService timelineService;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	@DisplayName("[Success] Timeline 첫 페이지 조회 요청 테스트")
+	@WithMockAdmin
+	void getTimelineRequestTestSuccess() throws Exception {
+		// given
+		var url = "/api/v1/timeline";
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		var principal = (UserEntity)authentication.getPrincipal();
+		var user = User.from(principal);
+
+		// mocking
+		Mockito.when(timelineService.getTimeline(any(), any(), any()))
+			.thenReturn(new CursorPageResponse<>(List.of(
+				new PostResponse(2L, "second", user, ZonedDateTime.now(), ZonedDateTime.now(), null),
+				new PostResponse(1L, "first", user, ZonedDateTime.now(), ZonedDateTime.now(), null)), "next"));
+
+		// when
+		mockMvc.perform(
+				MockMvcRequestBuilders.get(url)
+					.header(HttpHeaders.AUTHORIZATION, "Bearer {ACCESS_TOKEN}")
+			)
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.content().contentType(CONTENT_TYPE_JSON))
+			.andExpect(jsonPath("$.items.length()").value(2))
+			.andExpect(jsonPath("$.items[0].postId").value("2"))
+			.andExpect(jsonPath("$.items[1].body").value("first"))
+			.andExpect(jsonPath("$.next").value("next"))
+			.andDo(print());
+
+		// then
+		Mockito.verify(timelineService, Mockito.only()).getTimeline(null, null, principal);
+	}
+
+	@Test
+	@DisplayName("[Success] Timeline 커서 다음 페이지 조회 요청 테스트")
+	@WithMockAdmin
+	void getTimelineWithCursorRequestTestSuccess() throws Exception {
+		// given
+		var url = "/api/v1/timeline";
+		var cursor = "cursor";
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		var principal = (UserEntity)authentication.getPrincipal();
+
+		// mocking ( 마지막 페이지는 next 없음 )
+		Mockito.when(timelineService.getTimeline(any(), any(), any()))
+			.thenReturn(new CursorPageResponse<>(List.of(), null));
+
+		// when
+		mockMvc.perform(
+				MockMvcRequestBuilders.get(url)
+					.header(HttpHeaders.AUTHORIZATION, "Bearer {ACCESS_TOKEN}")
+					.param("cursor", cursor)
+					.param("size", "10")
+			)
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(jsonPath("$.items.length()").value(0))
+			.andDo(print());
+
+		// then
+		Mockito.verify(timelineService, Mockito.only()).getTimeline(cursor, 10, principal);
+	}
+
+	@Test
+	@DisplayName("[Failure] Timeline 잘못된 커서 조회 요청 테스트")
+	@WithMockAdmin
+	void getTimelineInvalidCursorRequestTestFailure() throws Exception {
+		// given
+		var url = "/api/v1/timeline";
+		var cursor = "invalid";
+
+		// mocking
+		Mockito.when(timelineService.getTimeline(any(), any(), any()))
+			.thenThrow(new InvalidCursorException());
+
+		// when
+		mockMvc.perform(
+				MockMvcRequestBuilders.get(url)
+					.header(HttpHeaders.AUTHORIZATION, "Bearer {ACCESS_TOKEN}")
+					.param("cursor", cursor)
+			).andDo(print())
+			.andExpect(MockMvcResultMatchers.status().isBadRequest())
+			.andExpect(result -> {
+				Assertions.assertInstanceOf(InvalidCursorException.class, result.getResolvedException());
+			});
+
+		// then
+		Mockito.verify(timelineService, Mockito.only()).getTimeline(eq(cursor), any(), any());
+	}
+
+	@Test
+	@DisplayName("[Failure] Authorization 요청 테스트")
+	@WithAnonymousUser
+	void authorizationRequestAccessDenied401() throws Exception {
+		// given
+		var url = "/api/v1/timeline";
+
+		// when
+		mockMvc.perform(MockMvcRequestBuilders.get(url))
+			.andExpect(MockMvcResultMatchers.status().isUnauthorized());
+
+		// then
+		Mockito.verifyNoInteractions(timelineService);
+	}
+}
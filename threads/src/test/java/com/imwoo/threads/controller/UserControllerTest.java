@@ -6,6 +6,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -25,16 +26,19 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.imwoo.threads.common.context.support.annotation.WithMockAdmin;
 import com.imwoo.threads.config.TestWebSecurityConfiguration;
+import com.imwoo.threads.exception.follow.FollowNotFoundException;
 import com.imwoo.threads.exception.user.UserDuplicatedException;
 import com.imwoo.threads.exception.user.UserNotAllowedException;
 import com.imwoo.threads.exception.user.UserNotFoundException;
 import com.imwoo.threads.model.entity.UserEntity;
+import com.imwoo.threads.model.page.CursorPageResponse;
 import com.imwoo.threads.model.post.response.PostResponse;
 import com.imwoo.threads.model.user.User;
 import com.imwoo.threads.model.user.request.UserAuthenticateRequest;
 import com.imwoo.threads.model.user.request.UserSignUpRequest;
 import com.imwoo.threads.model.user.request.UserUpdateRequest;
 import com.imwoo.threads.model.user.response.UserAuthenticationResponse;
+import com.imwoo.threads.service.FollowService;
 import com.imwoo.threads.service.PostService;
 import com.imwoo.threads.service.UserService;
 
@@ -55,6 +59,8 @@ class UserControllerTest {
 	private UserService userService;
 	@MockBean
 	private PostService postService;
+	@MockBean
+	private FollowService followService;
 
 	@Autowired
 	private MockMvc mockMvc;
@@ -242,17 +248,88 @@ class UserControllerTest {
 		);
 
 		// mocking
-		when(userService.getUsers(anyString())).thenReturn(users);
+		when(userService.getUsers(isNull(), isNull(), isNull())).thenReturn(new CursorPageResponse<>(users, null));
+
+		// when
+		mockMvc.perform(
+				MockMvcRequestBuilders.get(url)
+			).andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.jsonPath("$.items.length()").value(2))
+			.andDo(print());
+
+		// then
+		Mockito.verify(userService, Mockito.times(1)).getUsers(null, null, null);
+		Mockito.verify(userService, Mockito.only()).getUsers(null, null, null);
+	}
+
+	@Test
+	@DisplayName("[Success] 회원 조회 다음 페이지 요청 테스트")
+	@WithMockAdmin
+	void userSearchNextPageRequestTestSuccess() throws Exception {
+		// given
+		var url = "/api/v1/users";
+		var cursor = "Mg";
+		var size = 1;
+		var users = List.of(
+			User.from(
+				new UserEntity(3L, "adminC", "admin", null, null, ZonedDateTime.now(), ZonedDateTime.now(), null))
+		);
+
+		// mocking
+		when(userService.getUsers(null, cursor, size)).thenReturn(new CursorPageResponse<>(users, "Mw"));
 
 		// when
 		mockMvc.perform(
 				MockMvcRequestBuilders.get(url)
+					.param("cursor", cursor)
+					.param("size", String.valueOf(size))
 			).andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.jsonPath("$.next").value("Mw"))
 			.andDo(print());
 
 		// then
-		Mockito.verify(userService, Mockito.times(1)).getUsers(null);
-		Mockito.verify(userService, Mockito.only()).getUsers(null);
+		Mockito.verify(userService, Mockito.only()).getUsers(null, cursor, size);
+	}
+
+	@Test
+	@DisplayName("[Success] 회원 조회 NDJSON 스트리밍 요청 테스트")
+	@WithMockAdmin
+	void userStreamRequestTestSuccess() throws Exception {
+		// given
+		var url = "/api/v1/users";
+		var users = List.of(
+			User.from(
+				new UserEntity(1L, "admin", "admin", null, null, ZonedDateTime.now(), ZonedDateTime.now(), null)),
+			User.from(
+				new UserEntity(2L, "adminB", "admin", null, null, ZonedDateTime.now(), ZonedDateTime.now(), null))
+		);
+
+		// mocking
+		doAnswer(invocation -> {
+			Consumer<User> consumer = invocation.getArgument(0);
+			users.forEach(consumer);
+			return null;
+		}).when(userService).streamUsers(any());
+
+		// when
+		var mvcResult = mockMvc.perform(
+				MockMvcRequestBuilders.get(url)
+					.param("format", "ndjson")
+			).andExpect(MockMvcResultMatchers.request().asyncStarted())
+			.andReturn();
+
+		var body = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+			.andDo(print())
+			.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+		// then
+		var lines = body.split("\n");
+		Assertions.assertEquals(2, lines.length);
+		Assertions.assertEquals("admin", objectMapper.readValue(lines[0], User.class).username());
+		Assertions.assertEquals("adminB", objectMapper.readValue(lines[1], User.class).username());
+		Mockito.verify(userService, Mockito.only()).streamUsers(any());
 	}
 
 	@Test
@@ -270,7 +347,7 @@ class UserControllerTest {
 		);
 
 		// mocking
-		when(userService.getUsers(anyString())).thenReturn(users);
+		when(userService.getUsers(anyString(), isNull(), isNull())).thenReturn(new CursorPageResponse<>(users, null));
 
 		// when
 		mockMvc.perform(
@@ -280,8 +357,8 @@ class UserControllerTest {
 			.andDo(print());
 
 		// then
-		Mockito.verify(userService, Mockito.times(1)).getUsers(anyString());
-		Mockito.verify(userService, Mockito.only()).getUsers(anyString());
+		Mockito.verify(userService, Mockito.times(1)).getUsers(query, null, null);
+		Mockito.verify(userService, Mockito.only()).getUsers(query, null, null);
 	}
 
 	@Test
@@ -471,4 +548,139 @@ class UserControllerTest {
 		Mockito.verify(postService, Mockito.only()).getPostsByUsername(anyString());
 	}
 
+	@Test
+	@DisplayName("[Success] 회원 게시글 NDJSON 내보내기 요청 테스트")
+	@WithMockAdmin
+	void userStreamPostsRequestTestSuccess() throws Exception {
+		// given
+		var username = "admin";
+		var url = "/api/v1/users/" + username + "/posts";
+		var user = User.from(
+			new UserEntity(1L, username, "admin", null, null, ZonedDateTime.now(), ZonedDateTime.now(), null));
+
+		var posts = List.of(
+			new PostResponse(2L, "second", user, ZonedDateTime.now(), ZonedDateTime.now(), null),
+			new PostResponse(1L, "first", user, ZonedDateTime.now(), ZonedDateTime.now(), null)
+		);
+
+		// mocking
+		when(userService.getUser(username)).thenReturn(user);
+		doAnswer(invocation -> {
+			Consumer<PostResponse> consumer = invocation.getArgument(1);
+			posts.forEach(consumer);
+			return null;
+		}).when(postService).streamPostsByUserId(eq(user.userId()), any());
+
+		// when
+		var mvcResult = mockMvc.perform(
+				MockMvcRequestBuilders.get(url)
+					.param("format", "ndjson")
+			).andExpect(MockMvcResultMatchers.request().asyncStarted())
+			.andReturn();
+
+		var body = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+			.andExpect(MockMvcResultMatchers.status().isOk())
+			.andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+			.andDo(print())
+			.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+		// then
+		var lines = body.split("\n");
+		Assertions.assertEquals(2, lines.length);
+		Assertions.assertEquals(2L, objectMapper.readValue(lines[0], PostResponse.class).postId());
+		Assertions.assertEquals(1L, objectMapper.readValue(lines[1], PostResponse.class).postId());
+		Mockito.verify(postService, Mockito.only()).streamPostsByUserId(eq(user.userId()), any());
+	}
+
+	@Test
+	@DisplayName("[Failure] 회원 게시글 NDJSON 내보내기 요청 Not Found 테스트")
+	@WithMockAdmin
+	void userStreamPostsRequestNotFoundTestFailure() throws Exception {
+		// given
+		var username = "admin";
+		var url = "/api/v1/users/" + username + "/posts";
+
+		// mocking
+		when(userService.getUser(username)).thenThrow(new UserNotFoundException(username));
+
+		// when
+		mockMvc.perform(
+			MockMvcRequestBuilders.get(url)
+				.param("format", "ndjson")
+		).andExpect(result -> {
+			Assertions.assertInstanceOf(UserNotFoundException.class, result.getResolvedException());
+		}).andDo(print());
+
+		// then
+		Mockito.verifyNoInteractions(postService);
+	}
+
+	@Test
+	@DisplayName("[Success] 팔로우 요청 테스트")
+	@WithMockAdmin
+	void followRequestTestSuccess() throws Exception {
+		// given
+		var username = "other";
+		var url = "/api/v1/users/" + username + "/follows";
+		var user = User.from(
+			new UserEntity(2L, username, "other", null, null, ZonedDateTime.now(), ZonedDateTime.now(), null));
+
+		// mocking
+		when(followService.follow(anyString(), any())).thenReturn(user);
+
+		// when
+		mockMvc.perform(
+				MockMvcRequestBuilders.post(url)
+			).andExpect(MockMvcResultMatchers.status().isOk())
+			.andDo(print());
+
+		// then
+		Mockito.verify(followService, Mockito.times(1)).follow(anyString(), any());
+		Mockito.verify(followService, Mockito.only()).follow(anyString(), any());
+	}
+
+	@Test
+	@DisplayName("[Success] 언팔로우 요청 테스트")
+	@WithMockAdmin
+	void unfollowRequestTestSuccess() throws Exception {
+		// given
+		var username = "other";
+		var url = "/api/v1/users/" + username + "/follows";
+
+		// mocking
+		Mockito.doNothing().when(followService).unfollow(anyString(), any());
+
+		// when
+		mockMvc.perform(
+				MockMvcRequestBuilders.delete(url)
+			).andExpect(MockMvcResultMatchers.status().isNoContent())
+			.andDo(print());
+
+		// then
+		Mockito.verify(followService, Mockito.times(1)).unfollow(anyString(), any());
+		Mockito.verify(followService, Mockito.only()).unfollow(anyString(), any());
+	}
+
+	@Test
+	@DisplayName("[Failure] 언팔로우 요청 Not Found 테스트")
+	@WithMockAdmin
+	void unfollowRequestNotFoundTestFailure() throws Exception {
+		// given
+		var username = "other";
+		var url = "/api/v1/users/" + username + "/follows";
+
+		// mocking
+		Mockito.doThrow(new FollowNotFoundException(username)).when(followService).unfollow(anyString(), any());
+
+		// when
+		mockMvc.perform(
+			MockMvcRequestBuilders.delete(url)
+		).andExpect(result -> {
+			Assertions.assertInstanceOf(FollowNotFoundException.class, result.getResolvedException());
+		}).andDo(print());
+
+		// then
+		Mockito.verify(followService, Mockito.times(1)).unfollow(anyString(), any());
+	}
+
 }
\ No newline at end of file
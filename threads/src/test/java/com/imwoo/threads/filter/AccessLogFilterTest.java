@@ -0,0 +1,131 @@
+package com.imwoo.threads.filter;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.imwoo.threads.config.properties.AccessLogProperties;
+import com.imwoo.threads.monitor.accesslog.AccessLogContext;
+import com.imwoo.threads.monitor.accesslog.AccessLogEntry;
+import com.imwoo.threads.monitor.accesslog.AccessLogWriter;
+
+import jakarta.servlet.FilterChain;
+
+@ExtendWith(MockitoExtension.class)
+class AccessLogFilterTest {
+
+	private static final int MAX_BODY_LENGTH = 16;
+
+	private AccessLogFilter accessLogFilter;
+	@Mock
+	private AccessLogWriter accessLogWriter;
+
+	// 컨트롤러처럼 요청 본문을 끝까지 읽고, 실행 중 샘플링 컨텍스트를 확인
+	private final FilterChain filterChain = (request, response) -> {
+		request.getInputStream().readAllBytes();
+		assertThat(AccessLogContext.current()).isNotNull();
+	};
+
+	@BeforeEach
+	void setUp() {
+		var accessLogProperties = new AccessLogProperties(true, 16, MAX_BODY_LENGTH, 1.0,
+			Map.of("/actuator/**", 0.0), List.of("/api/v1/users/authenticate"), false);
+		accessLogFilter = new AccessLogFilter(accessLogProperties, accessLogWriter);
+	}
+
+	private MockHttpServletRequest request(String uri, String body) {
+		var request = new MockHttpServletRequest("POST", uri);
+		request.setContent(body.getBytes(StandardCharsets.UTF_8));
+		return request;
+	}
+
+	private AccessLogEntry capturedEntry() {
+		var captor = ArgumentCaptor.forClass(AccessLogEntry.class);
+		verify(accessLogWriter, only()).offer(captor.capture());
+		return captor.getValue();
+	}
+
+	@Test
+	@DisplayName("[Success] 요청 본문 Access Log 기록 테스트")
+	void doFilterBodyTestSuccess() throws Exception {
+		// given
+		var request = request("/api/v1/posts", "{\"body\":\"hi\"}");
+		var response = new MockHttpServletResponse();
+
+		// when
+		accessLogFilter.doFilter(request, response, filterChain);
+
+		// then
+		var entry = capturedEntry();
+		assertThat(entry.type()).isEqualTo("access");
+		assertThat(entry.method()).isEqualTo("POST");
+		assertThat(entry.uri()).isEqualTo("/api/v1/posts");
+		assertThat(entry.status()).isEqualTo(200);
+		assertThat(entry.body()).isEqualTo("{\"body\":\"hi\"}");
+		assertThat(entry.truncated()).isFalse();
+		assertThat(AccessLogContext.current()).isNull();
+	}
+
+	@Test
+	@DisplayName("[Success] 최대 길이 초과 요청 본문 잘라서 기록 테스트")
+	void doFilterTruncatedBodyTestSuccess() throws Exception {
+		// given
+		var body = "{\"body\":\"" + "a".repeat(100) + "\"}";
+		var request = request("/api/v1/posts", body);
+		var response = new MockHttpServletResponse();
+
+		// when
+		accessLogFilter.doFilter(request, response, filterChain);
+
+		// then
+		var entry = capturedEntry();
+		assertThat(entry.body()).isEqualTo(body.substring(0, MAX_BODY_LENGTH));
+		assertThat(entry.truncated()).isTrue();
+	}
+
+	@Test
+	@DisplayName("[Success] 민감 경로 요청 본문 기록 제외 테스트")
+	void doFilterBodyExcludedTestSuccess() throws Exception {
+		// given
+		var request = request("/api/v1/users/authenticate", "{\"username\":\"admin\",\"password\":\"secret\"}");
+		var response = new MockHttpServletResponse();
+
+		// when
+		accessLogFilter.doFilter(request, response, filterChain);
+
+		// then
+		var entry = capturedEntry();
+		assertThat(entry.uri()).isEqualTo("/api/v1/users/authenticate");
+		assertThat(entry.body()).isNull();
+		assertThat(entry.truncated()).isFalse();
+	}
+
+	@Test
+	@DisplayName("[Success] 샘플링 대상이 아닌 요청 Access Log 생략 테스트")
+	void doFilterNotSampledTestSuccess() throws Exception {
+		// given
+		var request = new MockHttpServletRequest("GET", "/actuator/health");
+		var response = new MockHttpServletResponse();
+		var chain = mock(FilterChain.class);
+
+		// when
+		accessLogFilter.doFilter(request, response, chain);
+
+		// then
+		verify(chain, only()).doFilter(request, response);
+		verifyNoInteractions(accessLogWriter);
+	}
+}
@@ -0,0 +1,158 @@
+package com.imwoo.threads.filter;
+
+import static com.imwoo.threads.monitor.StatementCountHeaderAdvice.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.imwoo.threads.model.post.request.PostCreateRequest;
+import com.imwoo.threads.model.post.request.PostUpdateRequest;
+import com.imwoo.threads.model.user.request.UserAuthenticateRequest;
+import com.imwoo.threads.model.user.request.UserSignUpRequest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 요청 단위 SQL 문 수 집계 검증 ( StatementCountFilter + X-Statement-Count 헤더 + budget 경고 )
+ * 실제 Filter Chain / StatementCountingDataSource 를 거치도록 전체 컨텍스트로 실행한다.
+ */
+@SpringBootTest(properties = "threads.statement-count.budget=1")
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+@ExtendWith(OutputCaptureExtension.class)
+class StatementCountFilterTest {
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private ObjectMapper objectMapper;
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private String username;
+	private String authorization;
+	private long postId;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		username = "user-" + UUID.randomUUID().toString().substring(0, 8);
+		var password = "password";
+
+		mockMvc.perform(post("/api/v1/users")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new UserSignUpRequest(username, password))))
+			.andExpect(status().isOk());
+
+		var authenticated = mockMvc.perform(post("/api/v1/users/authenticate")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new UserAuthenticateRequest(username, password))))
+			.andExpect(status().isOk())
+			.andReturn();
+		authorization = "Bearer " + objectMapper.readTree(authenticated.getResponse().getContentAsString())
+			.path("accessToken").asText();
+
+		// 첫 요청에서 Principal 캐시가 채워지므로 이후 요청의 SQL 문 수에는 사용자 조회가 포함되지 않는다.
+		var created = mockMvc.perform(post("/api/v1/posts")
+				.header(HttpHeaders.AUTHORIZATION, authorization)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new PostCreateRequest("statement count"))))
+			.andExpect(status().isOk())
+			.andReturn();
+		postId = objectMapper.readTree(created.getResponse().getContentAsString()).path("postId").asLong();
+	}
+
+	@Test
+	@DisplayName("[Success] 전체 Post 조회 SQL 문 수 헤더 테스트")
+	void getPostsStatementCountHeaderTestSuccess(CapturedOutput output) throws Exception {
+		// when & then
+		mockMvc.perform(get("/api/v1/posts")
+				.header(HttpHeaders.AUTHORIZATION, authorization))
+			.andExpect(status().isOk())
+			.andExpect(header().string(STATEMENT_COUNT_HEADER, "1"));
+
+		assertThat(output).doesNotContain("GET /api/v1/posts executed");
+	}
+
+	@Test
+	@DisplayName("[Success] 단건 Post 조회 SQL 문 수 메트릭 테스트")
+	void getPostStatementCountMetricTestSuccess() throws Exception {
+		// when
+		mockMvc.perform(get("/api/v1/posts/{postId}", postId)
+				.header(HttpHeaders.AUTHORIZATION, authorization))
+			.andExpect(status().isOk())
+			.andExpect(header().string(STATEMENT_COUNT_HEADER, "1"));
+
+		// then
+		var summary = meterRegistry.find("http.server.requests.statements")
+			.tag("method", "GET")
+			.tag("uri", "/api/v1/posts/{postId}")
+			.summary();
+		assertThat(summary).isNotNull();
+		assertThat(summary.count()).isGreaterThanOrEqualTo(1);
+		assertThat(summary.max()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("[Success] Post 검색 JdbcTemplate SQL 문 수 헤더 테스트")
+	void searchPostsStatementCountHeaderTestSuccess() throws Exception {
+		// when & then ( Hibernate 를 거치지 않는 JDBC 조회도 집계 )
+		mockMvc.perform(get("/api/v1/posts/search")
+				.param("q", "statement")
+				.header(HttpHeaders.AUTHORIZATION, authorization))
+			.andExpect(status().isOk())
+			.andExpect(header().string(STATEMENT_COUNT_HEADER, "1"));
+	}
+
+	@Test
+	@DisplayName("[Success] Post 수정 UPDATE ... RETURNING SQL 문 수 헤더 테스트")
+	void updatePostStatementCountHeaderTestSuccess(CapturedOutput output) throws Exception {
+		// when & then ( 수정과 응답 조회를 단일 SQL 로 처리 )
+		mockMvc.perform(patch("/api/v1/posts/{postId}", postId)
+				.header(HttpHeaders.AUTHORIZATION, authorization)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new PostUpdateRequest("updated"))))
+			.andExpect(status().isOk())
+			.andExpect(header().string(STATEMENT_COUNT_HEADER, "1"))
+			.andExpect(jsonPath("$.body").value("updated"));
+
+		assertThat(output).doesNotContain("PATCH /api/v1/posts/{postId} executed");
+	}
+
+	@Test
+	@DisplayName("[Success] 사용자 Post 조회 SQL 문 budget 초과 경고 테스트")
+	void getUserPostsStatementBudgetExceededTestSuccess(CapturedOutput output) throws Exception {
+		// when ( 사용자 식별자 조회 + 작성자 Post 조회 )
+		mockMvc.perform(get("/api/v1/users/{username}/posts", username)
+				.header(HttpHeaders.AUTHORIZATION, authorization))
+			.andExpect(status().isOk())
+			.andExpect(header().string(STATEMENT_COUNT_HEADER, "2"));
+
+		// then
+		assertThat(output).contains(
+			"SQL statement budget exceeded : GET /api/v1/users/{username}/posts executed 2 statements (budget 1)");
+	}
+}
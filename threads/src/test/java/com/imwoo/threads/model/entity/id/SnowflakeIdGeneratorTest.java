@@ -0,0 +1,125 @@
+package com.imwoo.threads.model.entity.id;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SnowflakeIdGeneratorTest {
+
+	private static final long NOW = SnowflakeIdGenerator.DEFAULT_EPOCH.toEpochMilli() + 1_000_000;
+
+	@Test
+	@DisplayName("[Success] 식별자 시간 순서 증가 및 생성 시각 복원 테스트")
+	void nextIdTimeOrderedTestSuccess() {
+		// given
+		var clock = new AtomicLong(NOW);
+		var generator = new SnowflakeIdGenerator(7, SnowflakeIdGenerator.DEFAULT_EPOCH, 1000, clock::get);
+
+		// when
+		var first = generator.nextId();
+		var sameMillis = generator.nextId();
+		clock.addAndGet(5);
+		var later = generator.nextId();
+
+		// then
+		assertThat(first).isLessThan(sameMillis).isLessThan(later);
+		assertThat(generator.timestampOf(first).toEpochMilli()).isEqualTo(NOW);
+		assertThat(generator.timestampOf(later).toEpochMilli()).isEqualTo(NOW + 5);
+	}
+
+	@Test
+	@DisplayName("[Success] 같은 ms sequence 소진 시 다음 ms 사용 테스트")
+	void nextIdSequenceOverflowTestSuccess() {
+		// given
+		var generator = new SnowflakeIdGenerator(0, SnowflakeIdGenerator.DEFAULT_EPOCH, 1000, () -> NOW);
+
+		// when
+		var ids = LongStream.range(0, SnowflakeIdGenerator.MAX_SEQUENCE + 2)
+			.map(i -> generator.nextId())
+			.toArray();
+
+		// then
+		assertThat(ids).isSorted().doesNotHaveDuplicates();
+		assertThat(generator.timestampOf(ids[ids.length - 1]).toEpochMilli()).isEqualTo(NOW + 1);
+	}
+
+	@Test
+	@DisplayName("[Success] 허용 범위 내 시계 역행 시 감소하지 않는 식별자 테스트")
+	void nextIdClockRollbackTestSuccess() {
+		// given
+		var clock = new AtomicLong(NOW);
+		var generator = new SnowflakeIdGenerator(0, SnowflakeIdGenerator.DEFAULT_EPOCH, 1000, clock::get);
+		var beforeRollback = generator.nextId();
+
+		// when
+		clock.addAndGet(-500);
+		var afterRollback = generator.nextId();
+
+		// then
+		assertThat(afterRollback).isGreaterThan(beforeRollback);
+	}
+
+	@Test
+	@DisplayName("[Failure] 허용 범위 초과 시계 역행 테스트")
+	void nextIdClockRollbackTestFailure() {
+		// given
+		var clock = new AtomicLong(NOW);
+		var generator = new SnowflakeIdGenerator(0, SnowflakeIdGenerator.DEFAULT_EPOCH, 1000, clock::get);
+		generator.nextId();
+
+		// when
+		clock.addAndGet(-5_000);
+
+		// then
+		assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("[Failure] 범위를 벗어난 nodeId 테스트")
+	void nodeIdOutOfRangeTestFailure() {
+		assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1,
+			SnowflakeIdGenerator.DEFAULT_EPOCH, 1000))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("[Success] 동시 발급 시 중복 없는 식별자 테스트")
+	void nextIdConcurrentTestSuccess() throws Exception {
+		// given
+		var generator = new SnowflakeIdGenerator(1, SnowflakeIdGenerator.DEFAULT_EPOCH, 1000);
+		var threads = 8;
+		var idsPerThread = 20_000;
+
+		// when
+		var ids = new HashSet<Long>();
+		try (var executor = Executors.newFixedThreadPool(threads)) {
+			var futures = new ArrayList<Future<List<Long>>>();
+			for (int i = 0; i < threads; i++) {
+				Callable<List<Long>> task = () -> LongStream.range(0, idsPerThread)
+					.map(n -> generator.nextId())
+					.boxed()
+					.toList();
+				futures.add(executor.submit(task));
+			}
+			for (var future : futures) {
+				var threadIds = future.get();
+				// 스레드 안에서는 발급 순서대로 증가
+				assertThat(threadIds).isSorted();
+				ids.addAll(threadIds);
+			}
+		}
+
+		// then
+		assertThat(ids).hasSize(threads * idsPerThread);
+	}
+}
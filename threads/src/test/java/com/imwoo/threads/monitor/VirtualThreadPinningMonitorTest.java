@@ -0,0 +1,94 @@
+package com.imwoo.threads.monitor;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.imwoo.threads.config.properties.VirtualThreadProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VirtualThreadPinningMonitorTest {
+
+	// JFR 스트리밍은 약 1초 주기로 이벤트를 전달하므로 여유를 두고 대기
+	private static final Duration AWAIT = Duration.ofSeconds(10);
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private VirtualThreadPinningMonitor virtualThreadPinningMonitor;
+
+	@BeforeEach
+	void setUp() {
+		virtualThreadPinningMonitor = new VirtualThreadPinningMonitor(
+			new VirtualThreadProperties(Duration.ofMillis(10)), meterRegistry);
+		virtualThreadPinningMonitor.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		virtualThreadPinningMonitor.stop();
+	}
+
+	private long pinnedCount() {
+		return meterRegistry.get("jvm.threads.virtual.pinned").timer().count();
+	}
+
+	// synchronized 블록 안에서 대기하면 ( JDK 21 ) Virtual Thread 가 Carrier Thread 에 고정된다.
+	private static void pinFor(Duration duration) throws InterruptedException {
+		var lock = new Object();
+		Thread.ofVirtual().start(() -> {
+			synchronized (lock) {
+				try {
+					Thread.sleep(duration);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}).join();
+	}
+
+	@Test
+	@DisplayName("[Success] Virtual Thread pinning 메트릭 기록 테스트")
+	void pinnedEventRecordedTestSuccess() throws Exception {
+		// when
+		pinFor(Duration.ofMillis(50));
+
+		// then
+		var deadline = System.nanoTime() + AWAIT.toNanos();
+		while (pinnedCount() == 0 && System.nanoTime() < deadline) {
+			Thread.sleep(100);
+		}
+		assertThat(pinnedCount()).isGreaterThanOrEqualTo(1);
+		assertThat(meterRegistry.get("jvm.threads.virtual.pinned").timer().max(TimeUnit.MILLISECONDS))
+			.isGreaterThanOrEqualTo(50);
+	}
+
+	@Test
+	@DisplayName("[Success] threshold 미만 pinning 기록 생략 테스트")
+	void pinnedBelowThresholdIgnoredTestSuccess() throws Exception {
+		// when
+		pinFor(Duration.ofMillis(1));
+		Thread.sleep(2000);
+
+		// then
+		assertThat(pinnedCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("[Success] 종료 후 실행 상태 테스트")
+	void stopTestSuccess() {
+		// given
+		assertThat(virtualThreadPinningMonitor.isRunning()).isTrue();
+
+		// when
+		virtualThreadPinningMonitor.stop();
+
+		// then
+		assertThat(virtualThreadPinningMonitor.isRunning()).isFalse();
+	}
+}
@@ -0,0 +1,62 @@
+package com.imwoo.threads.monitor.accesslog;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.imwoo.threads.config.properties.AccessLogProperties;
+
+class AccessLogSamplerTest {
+
+	private static final int SAMPLES = 10_000;
+
+	private AccessLogSampler accessLogSampler;
+
+	@BeforeEach
+	void setUp() {
+		// 선언 순서대로 처음 일치하는 패턴 적용
+		var routes = new LinkedHashMap<String, Double>();
+		routes.put("/api/v1/users/authenticate", 0.0);
+		routes.put("/api/v1/posts/**", 0.5);
+		routes.put("/api/v1/**", 1.0);
+		var accessLogProperties = new AccessLogProperties(true, 16, 8, 0.0, routes,
+			List.of("/api/v1/users", "/api/v1/users/authenticate"), false);
+		accessLogSampler = new AccessLogSampler(accessLogProperties);
+	}
+
+	private long sampledCount(String path) {
+		return IntStream.range(0, SAMPLES).filter(i -> accessLogSampler.sample(path)).count();
+	}
+
+	@Test
+	@DisplayName("[Success] 경로 패턴별 샘플링 비율 테스트")
+	void sampleRouteRateTestSuccess() {
+		// when & then
+		assertThat(sampledCount("/api/v1/users/authenticate")).isZero();
+		assertThat(sampledCount("/api/v1/users")).isEqualTo(SAMPLES);
+		assertThat(sampledCount("/api/v1/posts/1")).isBetween((long)(SAMPLES * 0.45), (long)(SAMPLES * 0.55));
+	}
+
+	@Test
+	@DisplayName("[Success] 일치하는 경로 패턴이 없는 경우 기본 샘플링 비율 테스트")
+	void sampleDefaultRateTestSuccess() {
+		// when & then
+		assertThat(sampledCount("/actuator/health")).isZero();
+	}
+
+	@Test
+	@DisplayName("[Success] 요청 본문 기록 제외 경로 테스트")
+	void isBodyExcludedTestSuccess() {
+		// when & then
+		assertThat(accessLogSampler.isBodyExcluded("/api/v1/users")).isTrue();
+		assertThat(accessLogSampler.isBodyExcluded("/api/v1/users/authenticate")).isTrue();
+		assertThat(accessLogSampler.isBodyExcluded("/api/v1/users/admin")).isFalse();
+		assertThat(accessLogSampler.isBodyExcluded("/api/v1/posts")).isFalse();
+	}
+}
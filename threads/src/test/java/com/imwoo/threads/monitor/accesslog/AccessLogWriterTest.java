@@ -0,0 +1,71 @@
+package com.imwoo.threads.monitor.accesslog;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.imwoo.threads.config.properties.AccessLogProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(OutputCaptureExtension.class)
+class AccessLogWriterTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private AccessLogWriter accessLogWriter(int bufferSize) {
+		var accessLogProperties = new AccessLogProperties(true, bufferSize, 256, 1.0, Map.of(), List.of(), false);
+		return new AccessLogWriter(accessLogProperties, Jackson2ObjectMapperBuilder.json().build(), meterRegistry);
+	}
+
+	private static AccessLogEntry entry(String uri) {
+		return AccessLogEntry.access("GET", uri, 200, 100, null, false);
+	}
+
+	@Test
+	@DisplayName("[Success] 버퍼 초과 시 버림 및 dropped 집계 테스트")
+	void offerDropOnFullTestSuccess() {
+		// given
+		var accessLogWriter = accessLogWriter(2);
+
+		// when
+		accessLogWriter.offer(entry("/api/v1/posts/1"));
+		accessLogWriter.offer(entry("/api/v1/posts/2"));
+		accessLogWriter.offer(entry("/api/v1/posts/3"));
+
+		// then
+		assertThat(meterRegistry.get("threads.access-log.dropped").counter().count()).isEqualTo(1.0);
+		assertThat(meterRegistry.get("threads.access-log.buffer.depth").gauge().value()).isEqualTo(2.0);
+	}
+
+	@Test
+	@DisplayName("[Success] 종료 시 버퍼에 남은 Access Log 출력 테스트")
+	void stopDrainTestSuccess(CapturedOutput output) {
+		// given
+		var accessLogWriter = accessLogWriter(16);
+		accessLogWriter.offer(entry("/api/v1/posts/1"));
+		accessLogWriter.offer(entry("/api/v1/posts/2"));
+		accessLogWriter.offer(entry("/api/v1/posts/3"));
+
+		// when
+		accessLogWriter.start();
+		accessLogWriter.stop();
+
+		// then
+		assertThat(accessLogWriter.isRunning()).isFalse();
+		assertThat(meterRegistry.get("threads.access-log.buffer.depth").gauge().value()).isZero();
+		assertThat(meterRegistry.get("threads.access-log.dropped").counter().count()).isZero();
+		assertThat(output)
+			.contains("\"uri\":\"/api/v1/posts/1\"")
+			.contains("\"uri\":\"/api/v1/posts/2\"")
+			.contains("\"uri\":\"/api/v1/posts/3\"");
+	}
+}
@@ -0,0 +1,71 @@
+package com.imwoo.threads.monitor.accesslog;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SampledSqlLogInspectorTest {
+
+	private static final int MAX_LENGTH = 16;
+
+	private SampledSqlLogInspector sampledSqlLogInspector;
+	@Mock
+	private AccessLogWriter accessLogWriter;
+
+	@BeforeEach
+	void setUp() {
+		sampledSqlLogInspector = new SampledSqlLogInspector(accessLogWriter, MAX_LENGTH);
+	}
+
+	@AfterEach
+	void tearDown() {
+		AccessLogContext.clear();
+	}
+
+	@Test
+	@DisplayName("[Success] 샘플링된 요청 SQL 기록 테스트")
+	void inspectSampledRequestTestSuccess() {
+		// given
+		var sql = "select p.postId from post p where p.postId = ?";
+		AccessLogContext.start("GET", "/api/v1/posts/1");
+
+		// when
+		var result = sampledSqlLogInspector.inspect(sql);
+
+		// then
+		assertThat(result).isEqualTo(sql);
+
+		var captor = ArgumentCaptor.forClass(AccessLogEntry.class);
+		verify(accessLogWriter, only()).offer(captor.capture());
+		var entry = captor.getValue();
+		assertThat(entry.type()).isEqualTo("sql");
+		assertThat(entry.method()).isEqualTo("GET");
+		assertThat(entry.uri()).isEqualTo("/api/v1/posts/1");
+		assertThat(entry.sql()).isEqualTo(sql.substring(0, MAX_LENGTH));
+		assertThat(entry.truncated()).isTrue();
+	}
+
+	@Test
+	@DisplayName("[Success] 샘플링 대상이 아닌 요청 SQL 기록 생략 테스트")
+	void inspectNotSampledRequestTestSuccess() {
+		// given
+		var sql = "select 1";
+
+		// when
+		var result = sampledSqlLogInspector.inspect(sql);
+
+		// then
+		assertThat(result).isEqualTo(sql);
+
+		verifyNoInteractions(accessLogWriter);
+	}
+}
@@ -0,0 +1,80 @@
+package com.imwoo.threads.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.imwoo.threads.model.entity.UserEntity;
+
+/**
+ * 팔로우 관계 추가 / 삭제 영향 행 수 검증 ( 중복 팔로우, 중복 언팔로우 )
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class FollowEntityRepositoryTest {
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private FollowEntityRepository followEntityRepository;
+	@Autowired
+	private TestEntityManager testEntityManager;
+
+	private UserEntity follower;
+	private UserEntity following;
+
+	@BeforeEach
+	void setUp() {
+		follower = testEntityManager.persist(UserEntity.of("follower", "password"));
+		following = testEntityManager.persist(UserEntity.of("following", "password"));
+		testEntityManager.flush();
+	}
+
+	@Test
+	@DisplayName("[Success] 팔로우 관계 추가 / 중복 추가 무시 테스트")
+	void insertIfAbsentTestSuccess() {
+		// when
+		var inserted = followEntityRepository.insertIfAbsent(
+			follower.getUserId(), following.getUserId(), ZonedDateTime.now());
+		var duplicated = followEntityRepository.insertIfAbsent(
+			follower.getUserId(), following.getUserId(), ZonedDateTime.now());
+
+		// then
+		assertThat(inserted).isEqualTo(1);
+		assertThat(duplicated).isZero();
+		assertThat(followEntityRepository.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("[Success] 팔로우 관계 삭제 / 중복 삭제 테스트")
+	void deleteByFollowerIdAndFollowingIdTestSuccess() {
+		// given
+		followEntityRepository.insertIfAbsent(follower.getUserId(), following.getUserId(), ZonedDateTime.now());
+
+		// when
+		var deleted = followEntityRepository.deleteByFollowerIdAndFollowingId(
+			follower.getUserId(), following.getUserId());
+		var deletedAgain = followEntityRepository.deleteByFollowerIdAndFollowingId(
+			follower.getUserId(), following.getUserId());
+
+		// then
+		assertThat(deleted).isEqualTo(1);
+		assertThat(deletedAgain).isZero();
+		assertThat(followEntityRepository.count()).isZero();
+	}
+}
@@ -0,0 +1,127 @@
+package com.imwoo.threads.repository;
+
+import static com.imwoo.threads.common.sql.StatementCountAssertions.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.imwoo.threads.model.entity.PostEntity;
+import com.imwoo.threads.model.entity.UserEntity;
+import com.imwoo.threads.monitor.StatementCountDataSourcePostProcessor;
+
+/**
+ * 조회 경로별 SQL 문 수 검증 ( N+1 방지 )
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StatementCountDataSourcePostProcessor.class)
+@Testcontainers(disabledWithoutDocker = true)
+class PostEntityRepositoryTest {
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private PostEntityRepository postEntityRepository;
+	@Autowired
+	private TestEntityManager testEntityManager;
+
+	private UserEntity author;
+	private UserEntity other;
+	private PostEntity post;
+
+	@BeforeEach
+	void setUp() {
+		author = testEntityManager.persist(UserEntity.of("author", "password"));
+		other = testEntityManager.persist(UserEntity.of("other", "password"));
+		post = testEntityManager.persist(PostEntity.of("content 1", author));
+		testEntityManager.persist(PostEntity.of("content 2", author));
+		testEntityManager.persist(PostEntity.of("content 3", other));
+		testEntityManager.flush();
+		testEntityManager.clear();
+	}
+
+	@Test
+	@DisplayName("[Success] 전체 Post 조회 단일 SQL 테스트")
+	void findLatestSingleStatementTestSuccess() {
+		// when
+		var posts = assertStatementCount(1, () -> postEntityRepository.findLatest(Limit.of(21)));
+
+		// then
+		assertThat(posts).hasSize(3);
+		assertThat(posts).allSatisfy(postResponse -> assertThat(postResponse.user().username()).isNotNull());
+	}
+
+	@Test
+	@DisplayName("[Success] 작성자 Post 조회 단일 SQL 테스트")
+	void findResponsesByUserIdSingleStatementTestSuccess() {
+		// when
+		var posts = assertStatementCount(1, () -> postEntityRepository.findResponsesByUserId(author.getUserId()));
+
+		// then
+		assertThat(posts).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("[Success] 단건 Post 조회 작성자 포함 단일 SQL 테스트")
+	void findResponseByIdSingleStatementTestSuccess() {
+		// when
+		var found = assertStatementCount(1, () -> postEntityRepository.findResponseById(post.getPostId()));
+
+		// then
+		assertThat(found).hasValueSatisfying(postResponse -> {
+			assertThat(postResponse.body()).isEqualTo("content 1");
+			assertThat(postResponse.user().username()).isEqualTo("author");
+		});
+	}
+
+	@Test
+	@DisplayName("[Success] 전체 Post 다음 페이지 조회 단일 SQL 테스트")
+	void findLatestBeforeSingleStatementTestSuccess() {
+		// given
+		var first = postEntityRepository.findLatest(Limit.of(1)).getFirst();
+
+		// when
+		var posts = assertStatementCount(1, () -> postEntityRepository.findLatestBefore(first.postId(), Limit.of(21)));
+
+		// then
+		assertThat(posts).hasSize(2);
+		assertThat(posts).allSatisfy(postResponse -> {
+			assertThat(postResponse.postId()).isLessThan(first.postId());
+			assertThat(postResponse.user().username()).isNotNull();
+		});
+	}
+
+	@Test
+	@DisplayName("[Success] 작성자 Post soft delete 단일 SQL 테스트")
+	void softDeleteByOwnerSingleStatementTestSuccess() {
+		// when
+		var notAllowed = assertStatementCount(1, () -> postEntityRepository.softDeleteByOwner(
+			post.getPostId(), other.getUserId(), ZonedDateTime.now()));
+		var deleted = assertStatementCount(1, () -> postEntityRepository.softDeleteByOwner(
+			post.getPostId(), author.getUserId(), ZonedDateTime.now()));
+		var deletedAgain = postEntityRepository.softDeleteByOwner(
+			post.getPostId(), author.getUserId(), ZonedDateTime.now());
+
+		// then
+		assertThat(notAllowed).isZero();
+		assertThat(deleted).isEqualTo(1);
+		assertThat(deletedAgain).isZero();
+		assertThat(postEntityRepository.existsById(post.getPostId())).isFalse();
+	}
+}
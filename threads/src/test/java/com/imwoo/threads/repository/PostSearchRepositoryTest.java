@@ -0,0 +1,146 @@
+package com.imwoo.threads.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.imwoo.threads.model.entity.PostEntity;
+import com.imwoo.threads.model.entity.UserEntity;
+import com.imwoo.threads.model.post.PostSearchCursor;
+import com.imwoo.threads.model.post.PostSearchHit;
+
+/**
+ * Post 본문 전문 검색 검증 ( tsvector 생성 컬럼, Soft Delete 제외, 고정 asOf Keyset 페이지 )
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PostSearchRepository.class)
+@Testcontainers(disabledWithoutDocker = true)
+class PostSearchRepositoryTest {
+
+	private static final Duration RECENCY_HALF_LIFE = Duration.ofHours(24);
+	private static final Instant AS_OF = Instant.parse("2025-01-10T00:00:00Z");
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private PostSearchRepository postSearchRepository;
+	@Autowired
+	private TestEntityManager testEntityManager;
+
+	private UserEntity author;
+
+	@BeforeEach
+	void setUp() {
+		author = testEntityManager.persist(UserEntity.of("author", "password"));
+	}
+
+	// createdDateTime 은 @PrePersist 로 현재 시각이 설정되므로 최신성 가중치 검증을 위해 직접 지정
+	private PostEntity persistPost(String body, UserEntity user, Instant createdDateTime) {
+		var post = testEntityManager.persist(PostEntity.of(body, user));
+		testEntityManager.flush();
+		testEntityManager.getEntityManager()
+			.createNativeQuery("UPDATE post SET createdDateTime = ?1 WHERE postId = ?2")
+			.setParameter(1, OffsetDateTime.ofInstant(createdDateTime, ZoneOffset.UTC))
+			.setParameter(2, post.getPostId())
+			.executeUpdate();
+		return post;
+	}
+
+	private void softDelete(String table, String idColumn, Long id) {
+		testEntityManager.getEntityManager()
+			.createNativeQuery("UPDATE " + table + " SET deletedDateTime = CURRENT_TIMESTAMP WHERE " + idColumn + " = ?1")
+			.setParameter(1, id)
+			.executeUpdate();
+	}
+
+	private static List<Long> postIds(List<PostSearchHit> hits) {
+		return hits.stream().map(hit -> hit.post().postId()).toList();
+	}
+
+	@Test
+	@DisplayName("[Success] 삭제된 Post, 탈퇴한 작성자 Post 검색 제외 테스트")
+	void searchExcludesDeletedTestSuccess() {
+		// given
+		var withdrawn = testEntityManager.persist(UserEntity.of("withdrawn", "password"));
+		var visible = persistPost("hello threads", author, AS_OF);
+		var deleted = persistPost("hello deleted", author, AS_OF);
+		persistPost("hello withdrawn", withdrawn, AS_OF);
+		persistPost("unrelated body", author, AS_OF);
+		softDelete("post", "postId", deleted.getPostId());
+		softDelete("\"user\"", "userId", withdrawn.getUserId());
+		testEntityManager.clear();
+
+		// when
+		var hits = postSearchRepository.search("hello", AS_OF, RECENCY_HALF_LIFE, null, 10);
+
+		// then
+		assertThat(postIds(hits)).containsExactly(visible.getPostId());
+		assertThat(hits.getFirst().post().user().username()).isEqualTo("author");
+	}
+
+	@Test
+	@DisplayName("[Success] 같은 관련도에서 최신 Post 우선 정렬 테스트")
+	void searchRecencyOrderTestSuccess() {
+		// given
+		var older = persistPost("hello threads", author, AS_OF.minus(Duration.ofDays(3)));
+		var newer = persistPost("hello threads", author, AS_OF.minus(Duration.ofHours(1)));
+		testEntityManager.clear();
+
+		// when
+		var hits = postSearchRepository.search("hello", AS_OF, RECENCY_HALF_LIFE, null, 10);
+
+		// then
+		assertThat(postIds(hits)).containsExactly(newer.getPostId(), older.getPostId());
+		assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+	}
+
+	@Test
+	@DisplayName("[Success] 고정 asOf Keyset 페이지 중복 / 누락 없음 테스트")
+	void searchStablePagingTestSuccess() {
+		// given
+		for (var hour = 0; hour < 7; hour++) {
+			persistPost("hello threads " + hour, author, AS_OF.minus(Duration.ofHours(hour)));
+		}
+		testEntityManager.clear();
+		var expected = postIds(postSearchRepository.search("hello", AS_OF, RECENCY_HALF_LIFE, null, 10));
+
+		// when ( 페이지 사이에 새 Post 가 작성되어도 같은 asOf, 커서로 이어서 조회 )
+		var paged = new ArrayList<Long>();
+		PostSearchCursor cursor = null;
+		while (true) {
+			var page = postSearchRepository.search("hello", AS_OF, RECENCY_HALF_LIFE, cursor, 3);
+			paged.addAll(postIds(page));
+			if (page.size() < 3) {
+				break;
+			}
+			cursor = PostSearchCursor.from(AS_OF, page.getLast());
+			persistPost("hello threads new", author, AS_OF.plus(Duration.ofMinutes(paged.size())));
+			testEntityManager.clear();
+		}
+
+		// then
+		assertThat(expected).hasSize(7);
+		assertThat(paged).containsExactlyElementsOf(expected);
+	}
+}
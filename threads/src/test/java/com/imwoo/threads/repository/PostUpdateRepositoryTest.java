@@ -0,0 +1,102 @@
+package com.imwoo.threads.repository;
+
+import static com.imwoo.threads.common.sql.StatementCountAssertions.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.imwoo.threads.model.entity.PostEntity;
+import com.imwoo.threads.model.entity.UserEntity;
+import com.imwoo.threads.monitor.StatementCountDataSourcePostProcessor;
+
+/**
+ * 작성자 조건 Post 수정 검증 ( UPDATE ... RETURNING 단일 SQL )
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PostUpdateRepository.class, StatementCountDataSourcePostProcessor.class})
+@Testcontainers(disabledWithoutDocker = true)
+class PostUpdateRepositoryTest {
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private PostUpdateRepository postUpdateRepository;
+	@Autowired
+	private PostEntityRepository postEntityRepository;
+	@Autowired
+	private TestEntityManager testEntityManager;
+
+	private UserEntity author;
+	private UserEntity other;
+	private PostEntity post;
+
+	@BeforeEach
+	void setUp() {
+		author = testEntityManager.persist(UserEntity.of("author", "password"));
+		other = testEntityManager.persist(UserEntity.of("other", "password"));
+		post = testEntityManager.persist(PostEntity.of("content", author));
+		testEntityManager.flush();
+		testEntityManager.clear();
+	}
+
+	@Test
+	@DisplayName("[Success] 작성자 Post 수정 결과 반환 단일 SQL 테스트")
+	void updateBodyByOwnerTestSuccess() {
+		// when
+		var updated = assertStatementCount(1, () -> postUpdateRepository.updateBodyByOwner(
+			post.getPostId(), author.getUserId(), "modified", ZonedDateTime.now()));
+
+		// then
+		assertThat(updated).hasValueSatisfying(postResponse -> {
+			assertThat(postResponse.postId()).isEqualTo(post.getPostId());
+			assertThat(postResponse.body()).isEqualTo("modified");
+			assertThat(postResponse.user().username()).isEqualTo("author");
+			assertThat(postResponse.updatedDateTime()).isAfterOrEqualTo(postResponse.createdDateTime());
+		});
+		assertThat(postEntityRepository.findResponseById(post.getPostId()))
+			.hasValueSatisfying(postResponse -> assertThat(postResponse.body()).isEqualTo("modified"));
+	}
+
+	@Test
+	@DisplayName("[Failure] 작성자가 아닌 사용자 Post 수정 테스트")
+	void updateBodyByOwnerNotAllowedTestFailure() {
+		// when
+		var updated = assertStatementCount(1, () -> postUpdateRepository.updateBodyByOwner(
+			post.getPostId(), other.getUserId(), "hijacked", ZonedDateTime.now()));
+
+		// then
+		assertThat(updated).isEmpty();
+		assertThat(postEntityRepository.findResponseById(post.getPostId()))
+			.hasValueSatisfying(postResponse -> assertThat(postResponse.body()).isEqualTo("content"));
+	}
+
+	@Test
+	@DisplayName("[Failure] 삭제된 Post 수정 테스트")
+	void updateBodyByOwnerDeletedTestFailure() {
+		// given
+		postEntityRepository.softDeleteByOwner(post.getPostId(), author.getUserId(), ZonedDateTime.now());
+
+		// when
+		var updated = postUpdateRepository.updateBodyByOwner(
+			post.getPostId(), author.getUserId(), "modified", ZonedDateTime.now());
+
+		// then
+		assertThat(updated).isEmpty();
+	}
+}
@@ -0,0 +1,153 @@
+package com.imwoo.threads.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.imwoo.threads.exception.follow.FollowDuplicatedException;
+import com.imwoo.threads.exception.follow.FollowNotAllowedException;
+import com.imwoo.threads.exception.follow.FollowNotFoundException;
+import com.imwoo.threads.exception.user.UserNotFoundException;
+import com.imwoo.threads.model.entity.UserEntity;
+import com.imwoo.threads.repository.FollowCountEntityRepository;
+import com.imwoo.threads.repository.FollowEntityRepository;
+import com.imwoo.threads.repository.UserEntityRepository;
+
+@ExtendWith(MockitoExtension.class)
+class FollowServiceTest {
+
+	private final static UserEntity AUTHORIZED_USER = new UserEntity(1L, "admin", "admin", null, null,
+		ZonedDateTime.now(),
+		ZonedDateTime.now(),
+		null);
+	private final static UserEntity OTHER_USER = new UserEntity(2L, "other", "other", null, null,
+		ZonedDateTime.now(),
+		ZonedDateTime.now(),
+		null);
+	@InjectMocks
+	private FollowService followService;
+	@Mock
+	private FollowEntityRepository followEntityRepository;
+	@Mock
+	private FollowCountEntityRepository followCountEntityRepository;
+	@Mock
+	private UserEntityRepository userEntityRepository;
+
+	@Test
+	@DisplayName("[Success] 팔로우 서비스 테스트")
+	void followServiceTestSuccess() {
+		// given
+
+		// mocking
+		when(userEntityRepository.findByUsername(anyString())).thenReturn(Optional.of(OTHER_USER));
+		when(followEntityRepository.insertIfAbsent(eq(AUTHORIZED_USER.getUserId()), eq(OTHER_USER.getUserId()), any()))
+			.thenReturn(1);
+
+		// when
+		var user = followService.follow(OTHER_USER.getUsername(), AUTHORIZED_USER);
+
+		// then
+		assertThat(user.username()).isEqualTo(OTHER_USER.getUsername());
+
+		verify(followEntityRepository, only())
+			.insertIfAbsent(eq(AUTHORIZED_USER.getUserId()), eq(OTHER_USER.getUserId()), any());
+		verify(followCountEntityRepository, only()).increaseFollowerCount(OTHER_USER.getUserId(), 1);
+	}
+
+	@Test
+	@DisplayName("[Failure] 팔로우 서비스 Not Found 테스트")
+	void followServiceNotFoundTestFailure() {
+		// given
+
+		// mocking
+		when(userEntityRepository.findByUsername(anyString())).thenReturn(Optional.empty());
+
+		// when
+		assertThatThrownBy(() -> followService.follow(OTHER_USER.getUsername(), AUTHORIZED_USER))
+			.isInstanceOf(UserNotFoundException.class);
+
+		// then
+		verifyNoInteractions(followEntityRepository);
+	}
+
+	@Test
+	@DisplayName("[Failure] 팔로우 서비스 자기 자신 팔로우 테스트")
+	void followServiceNotAllowedTestFailure() {
+		// given
+
+		// mocking
+		when(userEntityRepository.findByUsername(anyString())).thenReturn(Optional.of(AUTHORIZED_USER));
+
+		// when
+		assertThatThrownBy(() -> followService.follow(AUTHORIZED_USER.getUsername(), AUTHORIZED_USER))
+			.isInstanceOf(FollowNotAllowedException.class);
+
+		// then
+		verifyNoInteractions(followEntityRepository);
+	}
+
+	@Test
+	@DisplayName("[Failure] 팔로우 서비스 중복 테스트")
+	void followServiceDuplicateTestFailure() {
+		// given
+
+		// mocking ( 이미 팔로우 중이거나 동시 요청이 먼저 추가한 경우 )
+		when(userEntityRepository.findByUsername(anyString())).thenReturn(Optional.of(OTHER_USER));
+		when(followEntityRepository.insertIfAbsent(eq(AUTHORIZED_USER.getUserId()), eq(OTHER_USER.getUserId()), any()))
+			.thenReturn(0);
+
+		// when
+		assertThatThrownBy(() -> followService.follow(OTHER_USER.getUsername(), AUTHORIZED_USER))
+			.isInstanceOf(FollowDuplicatedException.class);
+
+		// then
+		verifyNoInteractions(followCountEntityRepository);
+	}
+
+	@Test
+	@DisplayName("[Success] 언팔로우 서비스 테스트")
+	void unfollowServiceTestSuccess() {
+		// given
+
+		// mocking
+		when(userEntityRepository.findByUsername(anyString())).thenReturn(Optional.of(OTHER_USER));
+		when(followEntityRepository.deleteByFollowerIdAndFollowingId(AUTHORIZED_USER.getUserId(), OTHER_USER.getUserId()))
+			.thenReturn(1);
+
+		// when
+		followService.unfollow(OTHER_USER.getUsername(), AUTHORIZED_USER);
+
+		// then
+		verify(followEntityRepository, only())
+			.deleteByFollowerIdAndFollowingId(AUTHORIZED_USER.getUserId(), OTHER_USER.getUserId());
+		verify(followCountEntityRepository, only()).increaseFollowerCount(OTHER_USER.getUserId(), -1);
+	}
+
+	@Test
+	@DisplayName("[Failure] 언팔로우 서비스 Not Found 테스트")
+	void unfollowServiceNotFoundTestFailure() {
+		// given
+
+		// mocking
+		when(userEntityRepository.findByUsername(anyString())).thenReturn(Optional.of(OTHER_USER));
+		when(followEntityRepository.deleteByFollowerIdAndFollowingId(AUTHORIZED_USER.getUserId(), OTHER_USER.getUserId()))
+			.thenReturn(0);
+
+		// when
+		assertThatThrownBy(() -> followService.unfollow(OTHER_USER.getUsername(), AUTHORIZED_USER))
+			.isInstanceOf(FollowNotFoundException.class);
+
+		// then
+		verifyNoInteractions(followCountEntityRepository);
+	}
+}
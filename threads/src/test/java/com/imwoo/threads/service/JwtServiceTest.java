@@ -2,28 +2,40 @@ package com.imwoo.threads.service;
 
 import static org.mockito.Mockito.*;
 
+import java.time.ZonedDateTime;
+
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import com.imwoo.threads.cache.VerifiedTokenCache;
+import com.imwoo.threads.config.properties.JwtProperties;
+import com.imwoo.threads.model.entity.UserEntity;
+import com.imwoo.threads.model.user.ClaimsUserPrincipal;
+import com.imwoo.threads.monitor.RequestTimers;
+
 import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class JwtServiceTest {
 
-	@InjectMocks
 	private JwtService jwtService;
+	private SimpleMeterRegistry meterRegistry;
 	@Mock
 	private UserDetails mockUserDetails;
 
 	@BeforeEach
 	void setUp() throws Exception {
+		meterRegistry = new SimpleMeterRegistry();
+		var jwtProperties = new JwtProperties(100, JwtProperties.PrincipalMode.CLAIMS);
+		jwtService = new JwtService(new VerifiedTokenCache(jwtProperties, meterRegistry), jwtProperties,
+			meterRegistry);
 		lenient().when(mockUserDetails.getUsername()).thenReturn("testUser");
 	}
 
@@ -77,4 +89,114 @@ class JwtServiceTest {
 			.isInstanceOf(JwtException.class);
 	}
 
-}
\ No newline at end of file
+	@Test
+	@DisplayName("[Success] JWT 검증 캐시 재사용 서비스 테스트")
+	void getUsernameJwtCachedServiceTestSuccess() {
+		// given
+		String accessToken = jwtService.generateAccessToken(mockUserDetails);
+
+		// mocking
+
+		// when
+		var first = jwtService.getUsername(accessToken);
+		var second = jwtService.getUsername(accessToken);
+
+		// then
+		Assertions.assertThat(first).isEqualTo(second);
+		Assertions.assertThat(cacheGets("miss")).isEqualTo(1);
+		Assertions.assertThat(cacheGets("hit")).isEqualTo(1);
+		Assertions.assertThat(verificationCount("success")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("[Success] JWT 검증 시간 요청 URI 패턴 태그 서비스 테스트")
+	void getUsernameJwtVerificationUriTagServiceTestSuccess() {
+		// given
+		String accessToken = jwtService.generateAccessToken(mockUserDetails);
+
+		// when ( 핸들러 매핑 이후 요청 종료 시점에 uri 태그로 기록 )
+		RequestTimers.start();
+		try {
+			jwtService.getUsername(accessToken);
+			Assertions.assertThat(meterRegistry.find("threads.jwt.verification").timer()).isNull();
+		} finally {
+			RequestTimers.stop("/api/v1/posts/{postId}");
+		}
+
+		// then
+		Assertions.assertThat(meterRegistry.get("threads.jwt.verification")
+			.tag("outcome", "success")
+			.tag("uri", "/api/v1/posts/{postId}")
+			.timer()
+			.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("[Failure] JWT 검증 실패 토큰 미적재 서비스 테스트")
+	void getUsernameJwtInvalidNotCachedServiceTestFailure() {
+		// given
+		String invalidToken = "invalidToken";
+
+		// mocking
+
+		// when
+		Assertions.assertThatThrownBy(() -> jwtService.getUsername(invalidToken))
+			.isInstanceOf(JwtException.class);
+		Assertions.assertThatThrownBy(() -> jwtService.getUsername(invalidToken))
+			.isInstanceOf(JwtException.class);
+
+		// then
+		Assertions.assertThat(cacheGets("hit")).isZero();
+		Assertions.assertThat(cacheGets("miss")).isEqualTo(2);
+		Assertions.assertThat(verificationCount("failure")).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("[Success] JWT Claims Principal 생성 서비스 테스트")
+	void getPrincipalJwtClaimsServiceTestSuccess() {
+		// given
+		var userEntity = new UserEntity(1L, "testUser", "password", null, null, ZonedDateTime.now(),
+			ZonedDateTime.now(), null);
+		String accessToken = jwtService.generateAccessToken(userEntity);
+
+		// mocking
+
+		// when
+		var principal = jwtService.getPrincipal(accessToken);
+
+		// then
+		Assertions.assertThat(jwtService.isClaimsPrincipalMode()).isTrue();
+		Assertions.assertThat(principal).isEqualTo(new ClaimsUserPrincipal(1L, "testUser"));
+		Assertions.assertThat(principal.getPassword()).isNull();
+	}
+
+	@Test
+	@DisplayName("[Failure] JWT Claims Principal userId 누락 서비스 테스트")
+	void getPrincipalJwtClaimsMissingUserIdServiceTestFailure() {
+		// given
+		String accessToken = jwtService.generateAccessToken(mockUserDetails);
+
+		// mocking
+
+		// when
+
+		// then
+		Assertions.assertThatThrownBy(() -> jwtService.getPrincipal(accessToken))
+			.isInstanceOf(JwtException.class);
+	}
+
+	private double cacheGets(String result) {
+		return meterRegistry.get("cache.gets")
+			.tag("cache", VerifiedTokenCache.CACHE_NAME)
+			.tag("result", result)
+			.functionCounter()
+			.count();
+	}
+
+	private long verificationCount(String outcome) {
+		return meterRegistry.get("threads.jwt.verification")
+			.tag("outcome", outcome)
+			.timer()
+			.count();
+	}
+}
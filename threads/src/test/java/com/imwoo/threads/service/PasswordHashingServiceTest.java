@@ -0,0 +1,104 @@
+package com.imwoo.threads.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.imwoo.threads.config.properties.PasswordProperties;
+import com.imwoo.threads.exception.user.PasswordHashingUnavailableException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashingServiceTest {
+
+	private static final int BCRYPT_STRENGTH = 4;
+
+	private PasswordHashingService passwordHashingService;
+	private ThreadPoolTaskExecutor executor;
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		var passwordProperties = new PasswordProperties(BCRYPT_STRENGTH,
+			new PasswordProperties.Hashing(1, 1, Duration.ofSeconds(5)));
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(1);
+		executor.initialize();
+		meterRegistry = new SimpleMeterRegistry();
+		passwordHashingService = new PasswordHashingService(new BCryptPasswordEncoder(BCRYPT_STRENGTH), executor,
+			passwordProperties, meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	@DisplayName("[Success] 패스워드 해싱 및 일치 확인 서비스 테스트")
+	void encodeAndMatchesServiceTestSuccess() {
+		// given
+		var password = "password";
+
+		// when
+		var encoded = passwordHashingService.encode(password);
+
+		// then
+		assertThat(passwordHashingService.matches(password, encoded)).isTrue();
+		assertThat(passwordHashingService.matches("other", encoded)).isFalse();
+		assertThat(meterRegistry.get("password.hashing.latency").tag("operation", "encode").timer().count())
+			.isEqualTo(1);
+		assertThat(meterRegistry.get("password.hashing.latency").tag("operation", "matches").timer().count())
+			.isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("[Success] cost factor 변경 재해싱 대상 확인 서비스 테스트")
+	void needsRehashServiceTestSuccess() {
+		// given
+		var current = new BCryptPasswordEncoder(BCRYPT_STRENGTH).encode("password");
+		var previous = new BCryptPasswordEncoder(BCRYPT_STRENGTH + 1).encode("password");
+
+		// then
+		assertThat(passwordHashingService.needsRehash(current)).isFalse();
+		assertThat(passwordHashingService.needsRehash(previous)).isTrue();
+	}
+
+	@Test
+	@DisplayName("[Failure] 해싱 워커 포화 시 즉시 거절 서비스 테스트")
+	void encodeSaturatedServiceTestFailure() throws InterruptedException {
+		// given : 워커 1, 큐 1 을 모두 점유
+		var release = new CountDownLatch(1);
+		executor.execute(() -> awaitQuietly(release));
+		executor.execute(() -> awaitQuietly(release));
+
+		// then
+		try {
+			assertThatThrownBy(() -> passwordHashingService.encode("password"))
+				.isInstanceOf(PasswordHashingUnavailableException.class);
+			assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+			assertThat(meterRegistry.get("password.hashing.queue.depth").gauge().value()).isEqualTo(1);
+		} finally {
+			release.countDown();
+		}
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
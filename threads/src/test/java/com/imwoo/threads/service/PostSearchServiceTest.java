@@ -0,0 +1,74 @@
+package com.imwoo.threads.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.imwoo.threads.config.properties.SearchProperties;
+import com.imwoo.threads.exception.post.InvalidSearchQueryException;
+import com.imwoo.threads.model.post.PostSearchCursor;
+import com.imwoo.threads.model.post.PostSearchHit;
+import com.imwoo.threads.model.post.response.PostResponse;
+import com.imwoo.threads.repository.PostSearchRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PostSearchServiceTest {
+
+	private static final Duration HALF_LIFE = Duration.ofHours(24);
+
+	private PostSearchService postSearchService;
+	@Mock
+	private PostSearchRepository postSearchRepository;
+
+	@BeforeEach
+	void setUp() {
+		postSearchService = new PostSearchService(postSearchRepository, new SearchProperties(HALF_LIFE, 10));
+	}
+
+	private PostSearchHit hit(Long postId, double score) {
+		var now = ZonedDateTime.now();
+		return new PostSearchHit(new PostResponse(postId, "content", null, now, now, null), score);
+	}
+
+	@Test
+	@DisplayName("[Success] Post 검색 다음 커서 기준 시각 유지 서비스 테스트")
+	void searchPostsNextCursorServiceTestSuccess() {
+		// given
+		var asOf = Instant.parse("2025-01-01T00:00:00Z");
+		var cursor = new PostSearchCursor(asOf, 0.5, 10L);
+
+		// mocking
+		when(postSearchRepository.search(eq("threads"), eq(asOf), eq(HALF_LIFE), eq(cursor), eq(3)))
+			.thenReturn(List.of(hit(9L, 0.4), hit(8L, 0.3), hit(7L, 0.2)));
+
+		// when
+		var page = postSearchService.searchPosts(" threads ", cursor.encode(), 2);
+
+		// then
+		assertThat(page.items()).extracting(PostResponse::postId).containsExactly(9L, 8L);
+		assertThat(PostSearchCursor.decode(page.next())).isEqualTo(new PostSearchCursor(asOf, 0.3, 8L));
+	}
+
+	@Test
+	@DisplayName("[Failure] Post 검색어 누락 서비스 테스트")
+	void searchPostsBlankQueryServiceTestFailure() {
+		assertThatThrownBy(() -> postSearchService.searchPosts(" ", null, null))
+			.isInstanceOf(InvalidSearchQueryException.class);
+		assertThatThrownBy(() -> postSearchService.searchPosts("a".repeat(11), null, null))
+			.isInstanceOf(InvalidSearchQueryException.class);
+
+		verifyNoInteractions(postSearchRepository);
+	}
+}
@@ -7,8 +7,10 @@ import static org.mockito.Mockito.*;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -17,16 +19,28 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import com.imwoo.threads.cache.RecentPostCache;
+import com.imwoo.threads.exception.page.InvalidCursorException;
 import com.imwoo.threads.exception.post.PostCreatedFailureException;
 import com.imwoo.threads.exception.post.PostNotFoundException;
 import com.imwoo.threads.exception.user.UserNotAllowedException;
 import com.imwoo.threads.exception.user.UserNotFoundException;
 import com.imwoo.threads.model.entity.PostEntity;
 import com.imwoo.threads.model.entity.UserEntity;
+import com.imwoo.threads.model.page.CursorPageResponse;
+import com.imwoo.threads.model.post.PostCursor;
+import com.imwoo.threads.model.post.request.PostBatchCreateRequest;
 import com.imwoo.threads.model.post.request.PostCreateRequest;
+import com.imwoo.threads.model.post.request.PostMultiGetRequest;
 import com.imwoo.threads.model.post.request.PostUpdateRequest;
+import com.imwoo.threads.model.post.response.PostLookupResponse;
+import com.imwoo.threads.model.post.response.PostResponse;
+import com.imwoo.threads.model.user.ClaimsUserPrincipal;
+import com.imwoo.threads.model.user.User;
 import com.imwoo.threads.repository.PostEntityRepository;
+import com.imwoo.threads.repository.PostUpdateRepository;
 import com.imwoo.threads.repository.UserEntityRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,45 +59,102 @@ class PostServiceTest {
 	@Mock
 	private PostEntityRepository postEntityRepository;
 	@Mock
+	private PostUpdateRepository postUpdateRepository;
+	@Mock
 	private UserEntityRepository userEntityRepository;
+	@Mock
+	private TimelineFanOutService timelineFanOutService;
+	@Mock
+	private RecentPostCache recentPostCache;
 
 	@Test
 	@DisplayName("[Success] 전체 Post 조회 서비스 테스트")
 	void getMultiPostServiceTestSuccess() {
 		// given
-		var postEntities = new ArrayList<PostEntity>();
+		var posts = new ArrayList<PostResponse>();
+
+		// mocking
+		when(postEntityRepository.findLatest(any(Limit.class)))
+			.thenReturn(posts);
+
+		// when
+		var page = postService.getPosts(null, null);
+
+		// then
+		assertThat(page.items()).isEmpty();
+		assertThat(page.next()).isNull();
+
+		verify(postEntityRepository, only()).findLatest(Limit.of(CursorPageResponse.DEFAULT_SIZE + 1));
+		verify(postEntityRepository, timeout(3000)).findLatest(any(Limit.class));
+
+		verifyNoMoreInteractions(postEntityRepository);
+	}
+
+	@Test
+	@DisplayName("[Success] 전체 Post Keyset 페이지 다음 커서 조회 서비스 테스트")
+	void getMultiPostNextCursorServiceTestSuccess() {
+		// given
+		var size = 2;
+		var posts = new ArrayList<PostResponse>();
+		for (long postId = 3; postId > 0; postId--) {
+			var postEntity = PostEntity.of("content" + postId, AUTHORIZED_USER);
+			postEntity.setPostId(postId);
+			postEntity.setCreatedDateTime(ZonedDateTime.now());
+			posts.add(PostResponse.from(postEntity));
+		}
+		var cursor = new PostCursor(4L).encode();
 
 		// mocking
-		when(postEntityRepository.findAll())
-			.thenReturn(postEntities);
+		when(postEntityRepository.findLatestBefore(anyLong(), any(Limit.class)))
+			.thenReturn(posts);
 
 		// when
-		postService.getPosts();
+		var page = postService.getPosts(cursor, size);
 
 		// then
-		verify(postEntityRepository, only()).findAll();
-		verify(postEntityRepository, timeout(3000)).findAll();
+		assertThat(page.items()).hasSize(size);
+		assertThat(page.next()).isNotNull();
+		assertThat(PostCursor.decode(page.next()).postId()).isEqualTo(2L);
+
+		verify(postEntityRepository, only()).findLatestBefore(eq(4L), eq(Limit.of(size + 1)));
 
 		verifyNoMoreInteractions(postEntityRepository);
 	}
 
+	@Test
+	@DisplayName("[Failure] 전체 Post Keyset 페이지 잘못된 커서 서비스 테스트")
+	void getMultiPostInvalidCursorServiceTestFailure() {
+		// given
+		var cursor = "invalid-cursor";
+
+		// mocking
+
+		// when
+
+		// then
+		assertThatThrownBy(() -> postService.getPosts(cursor, null))
+			.isInstanceOf(InvalidCursorException.class);
+
+		verifyNoInteractions(postEntityRepository);
+	}
+
 	@Test
 	@DisplayName("[Success] 단건 Post 조회 서비스 테스트")
 	void getSinglePostServiceTestSuccess() {
 		// given
-		var postEntity = PostEntity.of("", AUTHORIZED_USER);
+		var post = PostResponse.from(PostEntity.of("", AUTHORIZED_USER));
 		var postId = anyLong();
 
 		// mocking
-		when(postEntityRepository.findById(postId))
-			.thenReturn(Optional.of(postEntity));
+		when(postEntityRepository.findResponseById(postId))
+			.thenReturn(Optional.of(post));
 
 		// when
 		postService.getPostByPostId(postId);
 
 		// then
-		verify(postEntityRepository, only()).findById(anyLong());
-		verify(postEntityRepository, timeout(3000)).findById(anyLong());
+		verify(postEntityRepository, only()).findResponseById(anyLong());
+		verify(postEntityRepository, timeout(3000)).findResponseById(anyLong());
 
 		verifyNoMoreInteractions(postEntityRepository);
 	}
@@ -95,8 +166,8 @@ class PostServiceTest {
 		var postId = anyLong();
 
 		// mocking
-		when(postEntityRepository.findById(postId))
-			.thenThrow(new PostNotFoundException(postId));
+		when(postEntityRepository.findResponseById(postId))
+			.thenReturn(Optional.empty());
 
 		// when
 
@@ -104,8 +175,8 @@ class PostServiceTest {
 		assertThatThrownBy(() -> postService.getPostByPostId(anyLong()))
 			.isInstanceOf(PostNotFoundException.class);
 
-		verify(postEntityRepository, only()).findById(anyLong());
-		verify(postEntityRepository, timeout(3000)).findById(anyLong());
+		verify(postEntityRepository, only()).findResponseById(anyLong());
+		verify(postEntityRepository, timeout(3000)).findResponseById(anyLong());
 
 		verifyNoMoreInteractions(postEntityRepository);
 	}
@@ -130,10 +201,32 @@ class PostServiceTest {
 
 		verify(postEntityRepository, only()).save(any(PostEntity.class));
 		verify(postEntityRepository, timeout(3000)).save(any(PostEntity.class));
+		verify(timelineFanOutService, only()).fanOut(newPost);
 
 		verifyNoMoreInteractions(postEntityRepository);
 	}
 
+	@Test
+	@DisplayName("[Success] Post 신규 생성 Claims Principal 서비스 테스트")
+	void newCreatePostClaimsPrincipalServiceTestSuccess() {
+		// given
+		var body = "new created post test body";
+		var principal = new ClaimsUserPrincipal(AUTHORIZED_USER.getUserId(), AUTHORIZED_USER.getUsername());
+
+		// mocking
+		when(userEntityRepository.getReferenceById(principal.getUserId())).thenReturn(AUTHORIZED_USER);
+		when(postEntityRepository.save(any(PostEntity.class))).then(invocationOnMock -> invocationOnMock.getArgument(0));
+
+		// when
+		var newPost = postService.createPost(new PostCreateRequest(body), principal);
+
+		// then
+		assertThat(newPost.user().userId()).isEqualTo(principal.getUserId());
+
+		verify(userEntityRepository, only()).getReferenceById(principal.getUserId());
+		verify(postEntityRepository, only()).save(any(PostEntity.class));
+	}
+
 	@Test
 	@DisplayName("[Failure] Post 신규 생성 서비스 테스트")
 	void newCreatePostServiceTestFailure() {
@@ -147,65 +240,108 @@ class PostServiceTest {
 		// when
 
 		// then
-		assertThatThrownBy(() -> postService.createPost(new PostCreateRequest(body), null))
+		assertThatThrownBy(() -> postService.createPost(new PostCreateRequest(body), AUTHORIZED_USER))
 			.isInstanceOf(PostCreatedFailureException.class);
 
 		verify(postEntityRepository, only()).save(any(PostEntity.class));
 		verify(postEntityRepository, timeout(3000)).save(any(PostEntity.class));
+		verifyNoInteractions(timelineFanOutService);
 
 		verifyNoMoreInteractions(postEntityRepository);
 	}
 
+	@Test
+	@DisplayName("[Success] Post 일괄 생성 서비스 테스트")
+	void newCreatePostsServiceTestSuccess() {
+		// given
+		var request = new PostBatchCreateRequest(List.of(
+			new PostCreateRequest("first batch body"),
+			new PostCreateRequest("second batch body")
+		));
+
+		// mocking
+		when(postEntityRepository.saveAll(anyList())).then(invocationOnMock -> invocationOnMock.getArgument(0));
+
+		// when
+		var newPosts = postService.createPosts(request, AUTHORIZED_USER);
+
+		// then
+		assertThat(newPosts).extracting(PostResponse::body)
+			.containsExactly("first batch body", "second batch body");
+
+		verify(postEntityRepository, only()).saveAll(anyList());
+		verify(timelineFanOutService, only()).fanOutAll(newPosts);
+	}
+
+	@Test
+	@DisplayName("[Failure] Post 일괄 생성 서비스 테스트")
+	void newCreatePostsServiceTestFailure() {
+		// given
+		var request = new PostBatchCreateRequest(List.of(new PostCreateRequest("batch body")));
+
+		// mocking
+		when(postEntityRepository.saveAll(anyList())).thenThrow(new RuntimeException());
+
+		// when
+
+		// then
+		assertThatThrownBy(() -> postService.createPosts(request, AUTHORIZED_USER))
+			.isInstanceOf(PostCreatedFailureException.class);
+
+		verifyNoInteractions(timelineFanOutService);
+	}
+
 	@Test
 	@DisplayName("[Success] Post 수정 서비스 테스트")
 	void updatedPostServiceTestSuccess() {
 
 		// given
+		var postId = 1L;
 		var body = "modified post test body";
-		var mockTestPost = Optional.of(PostEntity.of(body, AUTHORIZED_USER));
+		var updated = new PostResponse(postId, body, User.from(AUTHORIZED_USER), ZonedDateTime.now(),
+			ZonedDateTime.now(), null);
 
 		// mocking
-		when(postEntityRepository.findById(anyLong()))
-			.thenReturn(mockTestPost);
-		when(postEntityRepository.save(any(PostEntity.class)))
-			.thenReturn(mockTestPost.get());
+		when(postUpdateRepository.updateBodyByOwner(eq(postId), eq(AUTHORIZED_USER.getUserId()), eq(body), any()))
+			.thenReturn(Optional.of(updated));
 
 		// when
-		var updatePost = postService.updatePost(anyLong(), new PostUpdateRequest(body), AUTHORIZED_USER);
+		var updatePost = postService.updatePost(postId, new PostUpdateRequest(body), AUTHORIZED_USER);
 
 		// then
-		assertThat(updatePost).isNotNull();
-		assertThat(updatePost.body()).isEqualTo(body);
-
-		verify(postEntityRepository, times(1)).findById(anyLong());
-		verify(postEntityRepository, timeout(3000)).findById(anyLong());
+		assertThat(updatePost).isEqualTo(updated);
 
-		verify(postEntityRepository, times(1)).save(any(PostEntity.class));
-		verify(postEntityRepository, timeout(3000)).save(any(PostEntity.class));
+		verify(postUpdateRepository, only())
+			.updateBodyByOwner(eq(postId), eq(AUTHORIZED_USER.getUserId()), eq(body), any());
+		verify(recentPostCache, only()).evict(AUTHORIZED_USER.getUserId());
 
-		verifyNoMoreInteractions(postEntityRepository);
+		verifyNoInteractions(postEntityRepository);
 	}
 
 	@Test
 	@DisplayName("[Failure] Post 수정 서비스 테스트")
 	void updatedPostServiceTestFailure() {
 		// given
+		var postId = 1L;
 		var body = "modified post test body";
 
 		// mocking
-		when(postEntityRepository.findById(anyLong()))
-			.thenThrow(new PostNotFoundException());
+		when(postUpdateRepository.updateBodyByOwner(anyLong(), anyLong(), anyString(), any()))
+			.thenReturn(Optional.empty());
+		when(postEntityRepository.existsById(postId))
+			.thenReturn(false);
 
 		// when
 
 		// then
-		assertThatThrownBy(() -> postService.updatePost(anyLong(), new PostUpdateRequest(body), AUTHORIZED_USER))
+		assertThatThrownBy(() -> postService.updatePost(postId, new PostUpdateRequest(body), AUTHORIZED_USER))
 			.isInstanceOf(PostNotFoundException.class);
 
-		verify(postEntityRepository, only()).findById(anyLong());
-		verify(postEntityRepository, timeout(3000)).findById(anyLong());
+		verify(postUpdateRepository, only()).updateBodyByOwner(anyLong(), anyLong(), anyString(), any());
+		verify(postEntityRepository, times(1)).existsById(postId);
 
 		verifyNoMoreInteractions(postEntityRepository);
+		verifyNoInteractions(recentPostCache);
 	}
 
 	@Test
@@ -213,98 +349,93 @@ class PostServiceTest {
 	void updatedPostServiceNotAllowedTestFailure() {
 
 		// given
+		var postId = 1L;
 		var body = "modified post test body";
-		var mockTestPost = Optional.of(PostEntity.of(body, AUTHORIZED_USER));
 
 		// mocking
-		when(postEntityRepository.findById(anyLong()))
-			.thenReturn(mockTestPost);
+		when(postUpdateRepository.updateBodyByOwner(eq(postId), eq(OTHER_USER.getUserId()), eq(body), any()))
+			.thenReturn(Optional.empty());
+		when(postEntityRepository.existsById(postId))
+			.thenReturn(true);
 
 		// when
-		assertThatThrownBy(() -> postService.updatePost(anyLong(), new PostUpdateRequest(body), OTHER_USER))
+		assertThatThrownBy(() -> postService.updatePost(postId, new PostUpdateRequest(body), OTHER_USER))
 			.isInstanceOf(UserNotAllowedException.class);
 
 		// then
-		verify(postEntityRepository, only()).findById(anyLong());
-		verify(postEntityRepository, timeout(3000)).findById(anyLong());
+		verify(postUpdateRepository, only())
+			.updateBodyByOwner(eq(postId), eq(OTHER_USER.getUserId()), eq(body), any());
+		verify(postEntityRepository, times(1)).existsById(postId);
 
 		verifyNoMoreInteractions(postEntityRepository);
+		verifyNoInteractions(recentPostCache);
 	}
 
 	@Test
 	@DisplayName("[Success] Post 삭제 서비스 테스트")
 	void deletedPostServiceTestSuccess() {
 		// given
-		var deleteDateTime = ZonedDateTime.now();
-		var findPostEntity = Optional.of(PostEntity.of("", AUTHORIZED_USER));
+		var postId = 1L;
 
 		// mocking
-		when(postEntityRepository.findById(anyLong()))
-			.thenReturn(findPostEntity);
-		doAnswer(invocationOnMock -> {
-			PostEntity entity = invocationOnMock.getArgument(0);
-
-			entity.setDeletedDateTime(deleteDateTime);
-
-			assertThat(entity.getDeletedDateTime()).isNotNull();
-			assertThat(entity.getDeletedDateTime()).isEqualTo(deleteDateTime);
-
-			return null;
-		}).when(postEntityRepository).delete(any(PostEntity.class));
+		when(postEntityRepository.softDeleteByOwner(eq(postId), eq(AUTHORIZED_USER.getUserId()), any()))
+			.thenReturn(1);
 
 		// when
-		postService.deletePost(anyLong(), AUTHORIZED_USER);
+		postService.deletePost(postId, AUTHORIZED_USER);
 
 		// then
-		verify(postEntityRepository, times(1)).findById(anyLong());
-		verify(postEntityRepository, timeout(3000)).findById(anyLong());
-
-		verify(postEntityRepository, times(1)).delete(any(PostEntity.class));
-		verify(postEntityRepository, timeout(3000)).delete(any(PostEntity.class));
-		verifyNoMoreInteractions(postEntityRepository);
+		verify(postEntityRepository, only()).softDeleteByOwner(eq(postId), eq(AUTHORIZED_USER.getUserId()), any());
+		verify(recentPostCache, only()).evict(AUTHORIZED_USER.getUserId());
 	}
 
 	@Test
 	@DisplayName("[Failure] Post 삭제 서비스 테스트")
 	void deletedPostServiceTestFailure() {
 		// given
+		var postId = 1L;
 
 		// mocking
-		when(postEntityRepository.findById(anyLong()))
-			.thenThrow(new PostNotFoundException());
+		when(postEntityRepository.softDeleteByOwner(anyLong(), anyLong(), any()))
+			.thenReturn(0);
+		when(postEntityRepository.existsById(postId))
+			.thenReturn(false);
 
 		// when
 
 		// then
-		assertThatThrownBy(() -> postService.deletePost(anyLong(), AUTHORIZED_USER))
+		assertThatThrownBy(() -> postService.deletePost(postId, AUTHORIZED_USER))
 			.isInstanceOf(PostNotFoundException.class);
 
-		verify(postEntityRepository, only()).findById(anyLong());
-		verify(postEntityRepository, timeout(3000)).findById(anyLong());
+		verify(postEntityRepository, times(1)).softDeleteByOwner(anyLong(), anyLong(), any());
+		verify(postEntityRepository, times(1)).existsById(postId);
 
 		verifyNoMoreInteractions(postEntityRepository);
+		verifyNoInteractions(recentPostCache);
 	}
 
 	@Test
 	@DisplayName("[Failure] Post 삭제 서비스 권한 불일치 테스트")
 	void deletedPostServiceNotAllowedTestFailure() {
 		// given
-		var findPostEntity = Optional.of(PostEntity.of("", AUTHORIZED_USER));
+		var postId = 1L;
 
 		// mocking
-		when(postEntityRepository.findById(anyLong()))
-			.thenReturn(findPostEntity);
+		when(postEntityRepository.softDeleteByOwner(eq(postId), eq(OTHER_USER.getUserId()), any()))
+			.thenReturn(0);
+		when(postEntityRepository.existsById(postId))
+			.thenReturn(true);
 
 		// when
-		assertThatThrownBy(() -> postService.deletePost(anyLong(), OTHER_USER))
+		assertThatThrownBy(() -> postService.deletePost(postId, OTHER_USER))
 			.isInstanceOf(UserNotAllowedException.class);
 
 		// then
-		verify(postEntityRepository, only()).findById(anyLong());
-		verify(postEntityRepository, timeout(3000)).findById(anyLong());
+		verify(postEntityRepository, times(1)).softDeleteByOwner(eq(postId), eq(OTHER_USER.getUserId()), any());
+		verify(postEntityRepository, times(1)).existsById(postId);
 
-		verify(postEntityRepository, times(0)).delete(any(PostEntity.class));
 		verifyNoMoreInteractions(postEntityRepository);
+		verifyNoInteractions(recentPostCache);
 	}
 
 	@Test
@@ -316,18 +447,19 @@ class PostServiceTest {
 			null);
 
 		// mocking
-		when(userEntityRepository.findByUsername(anyString()))
-			.thenReturn(Optional.of(userEntity));
-		when(postEntityRepository.findByUser(any())).thenReturn(List.of(PostEntity.of("content", userEntity)));
+		when(userEntityRepository.findUserIdByUsername(anyString()))
+			.thenReturn(Optional.of(userEntity.getUserId()));
+		when(postEntityRepository.findResponsesByUserId(anyLong()))
+			.thenReturn(List.of(PostResponse.from(PostEntity.of("content", userEntity))));
 
 		// when
 		postService.getPostsByUsername(username);
 
 		// then
-		verify(userEntityRepository, times(1)).findByUsername(any());
-		verify(userEntityRepository, timeout(3000)).findByUsername(any());
-		verify(postEntityRepository, times(1)).findByUser(any());
-		verify(postEntityRepository, timeout(3000)).findByUser(any());
+		verify(userEntityRepository, times(1)).findUserIdByUsername(any());
+		verify(userEntityRepository, timeout(3000)).findUserIdByUsername(any());
+		verify(postEntityRepository, times(1)).findResponsesByUserId(anyLong());
+		verify(postEntityRepository, timeout(3000)).findResponsesByUserId(anyLong());
 
 		verifyNoMoreInteractions(postEntityRepository);
 		verifyNoMoreInteractions(userEntityRepository);
@@ -342,20 +474,81 @@ class PostServiceTest {
 			null);
 
 		// mocking
-		when(userEntityRepository.findByUsername(anyString()))
-			.thenThrow(new UserNotFoundException(username));
+		when(userEntityRepository.findUserIdByUsername(anyString()))
+			.thenReturn(Optional.empty());
 
 		// when
 		Assertions.assertThatThrownBy(() -> postService.getPostsByUsername(username))
 			.isInstanceOf(UserNotFoundException.class);
 
 		// then
-		verify(userEntityRepository, times(1)).findByUsername(any());
-		verify(userEntityRepository, timeout(3000)).findByUsername(any());
-		verify(postEntityRepository, times(0)).findByUser(any());
+		verify(userEntityRepository, times(1)).findUserIdByUsername(any());
+		verify(userEntityRepository, timeout(3000)).findUserIdByUsername(any());
+		verify(postEntityRepository, times(0)).findResponsesByUserId(anyLong());
 
 		verifyNoMoreInteractions(postEntityRepository);
 		verifyNoMoreInteractions(userEntityRepository);
 	}
 
+	@Test
+	@DisplayName("[Success] Post 다건 조회 요청 순서, 누락 표시 서비스 테스트")
+	void getPostsByPostIdsServiceTestSuccess() {
+		// given
+		var first = new PostResponse(1L, "first", null, ZonedDateTime.now(), ZonedDateTime.now(), null);
+		var second = new PostResponse(2L, "second", null, ZonedDateTime.now(), ZonedDateTime.now(), null);
+		var request = new PostMultiGetRequest(List.of(2L, 9L, 1L, 2L));
+
+		// mocking
+		when(postEntityRepository.findResponsesByIdIn(anyCollection()))
+			.thenReturn(List.of(first, second));
+
+		// when
+		var posts = postService.getPostsByPostIds(request);
+
+		// then
+		assertThat(posts).containsExactly(
+			PostLookupResponse.found(second),
+			PostLookupResponse.missing(9L),
+			PostLookupResponse.found(first),
+			PostLookupResponse.found(second)
+		);
+
+		verify(postEntityRepository, only()).findResponsesByIdIn(new LinkedHashSet<>(List.of(2L, 9L, 1L)));
+		verifyNoInteractions(userEntityRepository);
+	}
+
+	@Test
+	@DisplayName("[Success] User Posts 스트리밍 Keyset 청크 서비스 테스트")
+	void streamPostsByUserServiceTestSuccess() {
+		// given
+		var userId = AUTHORIZED_USER.getUserId();
+		var limit = Limit.of(PostService.EXPORT_CHUNK_SIZE);
+		var firstChunk = LongStream.iterate(PostService.EXPORT_CHUNK_SIZE + 1L, postId -> postId - 1)
+			.limit(PostService.EXPORT_CHUNK_SIZE)
+			.mapToObj(postId -> new PostResponse(postId, "content", null, ZonedDateTime.now(), ZonedDateTime.now(), null))
+			.toList();
+		var lastPost = new PostResponse(1L, "content", null, ZonedDateTime.now(), ZonedDateTime.now(), null);
+		var consumed = new ArrayList<PostResponse>();
+
+		// mocking
+		when(postEntityRepository.findLatestByUserId(userId, limit))
+			.thenReturn(firstChunk);
+		when(postEntityRepository.findLatestByUserIdBefore(userId, 2L, limit))
+			.thenReturn(List.of(lastPost));
+
+		// when
+		postService.streamPostsByUserId(userId, consumed::add);
+
+		// then
+		assertThat(consumed).hasSize(PostService.EXPORT_CHUNK_SIZE + 1);
+		assertThat(consumed.getFirst().postId()).isEqualTo(PostService.EXPORT_CHUNK_SIZE + 1L);
+		assertThat(consumed.getLast()).isEqualTo(lastPost);
+
+		// 마지막 청크가 청크 크기보다 작으면 추가 조회 없이 종료
+		verify(postEntityRepository, times(1)).findLatestByUserId(userId, limit);
+		verify(postEntityRepository, times(1)).findLatestByUserIdBefore(userId, 2L, limit);
+		verifyNoMoreInteractions(postEntityRepository);
+		verifyNoInteractions(userEntityRepository);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,154 @@
+package com.imwoo.threads.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.imwoo.threads.cache.RecentPostCache;
+import com.imwoo.threads.config.properties.TimelineProperties;
+import com.imwoo.threads.model.post.response.PostResponse;
+import com.imwoo.threads.model.user.User;
+import com.imwoo.threads.repository.FollowCountEntityRepository;
+import com.imwoo.threads.repository.FollowEntityRepository;
+import com.imwoo.threads.repository.TimelineInboxRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TimelineFanOutServiceTest {
+
+	private static final int BATCH_SIZE = 2;
+	private static final int INBOX_MAX_SIZE = 10;
+	private static final long HIGH_FOLLOWER_THRESHOLD = 100;
+
+	private TimelineFanOutService timelineFanOutService;
+	@Mock
+	private FollowEntityRepository followEntityRepository;
+	@Mock
+	private FollowCountEntityRepository followCountEntityRepository;
+	@Mock
+	private TimelineInboxRepository timelineInboxRepository;
+	@Mock
+	private RecentPostCache recentPostCache;
+
+	@BeforeEach
+	void setUp() {
+		var timelineProperties = new TimelineProperties(INBOX_MAX_SIZE,
+			new TimelineProperties.FanOut(BATCH_SIZE, 1, 1, 1),
+			new TimelineProperties.Hybrid(HIGH_FOLLOWER_THRESHOLD, 10, 10, Duration.ofSeconds(60)),
+			new TimelineProperties.Trim(1000, Duration.ofMinutes(5)));
+		timelineFanOutService = new TimelineFanOutService(followEntityRepository, followCountEntityRepository,
+			timelineInboxRepository, recentPostCache, timelineProperties);
+	}
+
+	private PostResponse post(Long postId, Long authorId, ZonedDateTime createdDateTime) {
+		var user = new User(authorId, "author", null, null, createdDateTime, createdDateTime);
+		return new PostResponse(postId, "content", user, createdDateTime, createdDateTime, null);
+	}
+
+	@Test
+	@DisplayName("[Success] 타임라인 Fan-out batch 적재 서비스 테스트")
+	void fanOutBatchServiceTestSuccess() {
+		// given
+		var postId = 10L;
+		var authorId = 1L;
+		var createdDateTime = ZonedDateTime.now();
+
+		// mocking
+		when(followCountEntityRepository.getFollowerCount(authorId)).thenReturn(3L);
+		when(followEntityRepository.findFollowerIds(authorId, 0L, Limit.of(BATCH_SIZE))).thenReturn(List.of(2L, 3L));
+		when(followEntityRepository.findFollowerIds(authorId, 3L, Limit.of(BATCH_SIZE))).thenReturn(List.of(4L));
+
+		var post = post(postId, authorId, createdDateTime);
+
+		// when
+		timelineFanOutService.fanOut(post);
+
+		// then
+		verify(timelineInboxRepository, times(1)).insertAll(List.of(authorId), List.of(post));
+		verify(timelineInboxRepository, times(1)).insertAll(List.of(2L, 3L), List.of(post));
+		verify(timelineInboxRepository, times(1)).insertAll(List.of(4L), List.of(post));
+		verify(followEntityRepository, times(2)).findFollowerIds(eq(authorId), anyLong(), any(Limit.class));
+
+		verifyNoMoreInteractions(followEntityRepository);
+		verifyNoMoreInteractions(timelineInboxRepository);
+		verifyNoInteractions(recentPostCache);
+	}
+
+	@Test
+	@DisplayName("[Success] 팔로워 없는 작성자 Fan-out 서비스 테스트")
+	void fanOutWithoutFollowerServiceTestSuccess() {
+		// given
+		var postId = 10L;
+		var authorId = 1L;
+		var createdDateTime = ZonedDateTime.now();
+
+		// mocking
+		when(followEntityRepository.findFollowerIds(authorId, 0L, Limit.of(BATCH_SIZE))).thenReturn(List.of());
+
+		var post = post(postId, authorId, createdDateTime);
+
+		// when
+		timelineFanOutService.fanOut(post);
+
+		// then
+		verify(timelineInboxRepository, times(1)).insertAll(List.of(authorId), List.of(post));
+
+		verifyNoMoreInteractions(timelineInboxRepository);
+	}
+
+	@Test
+	@DisplayName("[Success] 고팔로워 작성자 Fan-out 생략 서비스 테스트")
+	void fanOutHighFollowerServiceTestSuccess() {
+		// given
+		var postId = 10L;
+		var authorId = 1L;
+		var createdDateTime = ZonedDateTime.now();
+		var post = post(postId, authorId, createdDateTime);
+
+		// mocking
+		when(followCountEntityRepository.getFollowerCount(authorId)).thenReturn(HIGH_FOLLOWER_THRESHOLD + 1);
+
+		// when
+		timelineFanOutService.fanOut(post);
+
+		// then
+		verify(timelineInboxRepository, times(1)).insertAll(List.of(authorId), List.of(post));
+		verify(recentPostCache, only()).push(post);
+		verifyNoInteractions(followEntityRepository);
+	}
+
+	@Test
+	@DisplayName("[Success] 일괄 작성 Post 단일 Fan-out 서비스 테스트")
+	void fanOutAllServiceTestSuccess() {
+		// given
+		var authorId = 1L;
+		var createdDateTime = ZonedDateTime.now();
+		var posts = List.of(post(10L, authorId, createdDateTime), post(11L, authorId, createdDateTime),
+			post(12L, authorId, createdDateTime));
+
+		// mocking
+		when(followCountEntityRepository.getFollowerCount(authorId)).thenReturn(1L);
+		when(followEntityRepository.findFollowerIds(authorId, 0L, Limit.of(BATCH_SIZE))).thenReturn(List.of(2L));
+
+		// when
+		timelineFanOutService.fanOutAll(posts);
+
+		// then ( Post 수와 관계없이 팔로워 조회 1회, 팔로워 묶음당 적재 1회, 적재 시 정리 없음 )
+		verify(timelineInboxRepository, times(1)).insertAll(List.of(authorId), posts);
+		verify(timelineInboxRepository, times(1)).insertAll(List.of(2L), posts);
+		verify(followCountEntityRepository, only()).getFollowerCount(authorId);
+		verify(followEntityRepository, only()).findFollowerIds(eq(authorId), anyLong(), any(Limit.class));
+
+		verifyNoMoreInteractions(timelineInboxRepository);
+	}
+}
@@ -0,0 +1,67 @@
+package com.imwoo.threads.service;
+
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.imwoo.threads.config.properties.TimelineProperties;
+import com.imwoo.threads.repository.TimelineInboxRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TimelineInboxTrimServiceTest {
+
+	private static final int BATCH_SIZE = 2;
+	private static final int INBOX_MAX_SIZE = 10;
+	private static final int HIGH_WATER_MARK = 15;
+
+	private TimelineInboxTrimService timelineInboxTrimService;
+	@Mock
+	private TimelineInboxRepository timelineInboxRepository;
+
+	@BeforeEach
+	void setUp() {
+		var timelineProperties = new TimelineProperties(INBOX_MAX_SIZE,
+			new TimelineProperties.FanOut(BATCH_SIZE, 1, 1, 1),
+			new TimelineProperties.Hybrid(100, 10, 10, Duration.ofSeconds(60)),
+			new TimelineProperties.Trim(HIGH_WATER_MARK, Duration.ofMinutes(5)));
+		timelineInboxTrimService = new TimelineInboxTrimService(timelineInboxRepository, timelineProperties);
+	}
+
+	@Test
+	@DisplayName("[Success] highWaterMark 초과 사용자 묶음 단위 Inbox 정리 서비스 테스트")
+	void trimInboxesServiceTestSuccess() {
+		// mocking
+		when(timelineInboxRepository.findUserIdsOverSize(HIGH_WATER_MARK)).thenReturn(List.of(1L, 2L, 3L));
+
+		// when
+		timelineInboxTrimService.trimInboxes();
+
+		// then
+		verify(timelineInboxRepository, times(1)).trim(List.of(1L, 2L), INBOX_MAX_SIZE);
+		verify(timelineInboxRepository, times(1)).trim(List.of(3L), INBOX_MAX_SIZE);
+		verify(timelineInboxRepository, times(1)).findUserIdsOverSize(HIGH_WATER_MARK);
+
+		verifyNoMoreInteractions(timelineInboxRepository);
+	}
+
+	@Test
+	@DisplayName("[Success] highWaterMark 초과 사용자가 없으면 정리 생략 서비스 테스트")
+	void trimInboxesNothingServiceTestSuccess() {
+		// mocking
+		when(timelineInboxRepository.findUserIdsOverSize(HIGH_WATER_MARK)).thenReturn(List.of());
+
+		// when
+		timelineInboxTrimService.trimInboxes();
+
+		// then
+		verify(timelineInboxRepository, only()).findUserIdsOverSize(HIGH_WATER_MARK);
+	}
+}
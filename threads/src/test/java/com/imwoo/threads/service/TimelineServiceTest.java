@@ -0,0 +1,114 @@
+package com.imwoo.threads.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.imwoo.threads.cache.RecentPostCache;
+import com.imwoo.threads.config.properties.TimelineProperties;
+import com.imwoo.threads.model.entity.UserEntity;
+import com.imwoo.threads.model.post.response.PostResponse;
+import com.imwoo.threads.model.user.User;
+import com.imwoo.threads.repository.FollowEntityRepository;
+import com.imwoo.threads.repository.TimelineEntityRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TimelineServiceTest {
+
+	private static final long HIGH_FOLLOWER_THRESHOLD = 100;
+	private final static UserEntity AUTHORIZED_USER = new UserEntity(1L, "admin", "admin", null, null,
+		ZonedDateTime.now(),
+		ZonedDateTime.now(),
+		null);
+	private static final ZonedDateTime NOW = ZonedDateTime.now();
+
+	private TimelineService timelineService;
+	@Mock
+	private TimelineEntityRepository timelineEntityRepository;
+	@Mock
+	private FollowEntityRepository followEntityRepository;
+	@Mock
+	private RecentPostCache recentPostCache;
+
+	@BeforeEach
+	void setUp() {
+		var timelineProperties = new TimelineProperties(800,
+			new TimelineProperties.FanOut(500, 1, 1, 1),
+			new TimelineProperties.Hybrid(HIGH_FOLLOWER_THRESHOLD, 10, 10, Duration.ofSeconds(60)),
+			new TimelineProperties.Trim(1000, Duration.ofMinutes(5)));
+		timelineService = new TimelineService(timelineEntityRepository, followEntityRepository, recentPostCache,
+			timelineProperties);
+	}
+
+	private PostResponse post(Long postId, Long authorId, long minutesAgo) {
+		var createdDateTime = NOW.minusMinutes(minutesAgo);
+		var user = new User(authorId, "author" + authorId, null, null, NOW, NOW);
+		return new PostResponse(postId, "content", user, createdDateTime, createdDateTime, null);
+	}
+
+	@Test
+	@DisplayName("[Success] 최신순 k-way merge 테스트")
+	void mergeLatestFirstTestSuccess() {
+		// given
+		var inbox = List.of(post(5L, 2L, 1), post(3L, 2L, 5), post(1L, 2L, 9));
+		var celebrityA = List.of(post(6L, 3L, 0), post(4L, 3L, 3));
+		var celebrityB = List.of(post(2L, 4L, 7));
+
+		// when
+		var merged = TimelineService.merge(List.of(inbox, celebrityA, celebrityB), 4);
+
+		// then
+		assertThat(merged).extracting(PostResponse::postId).containsExactly(6L, 5L, 4L, 3L);
+	}
+
+	@Test
+	@DisplayName("[Success] k-way merge 중복 Post 제거 테스트")
+	void mergeDistinctTestSuccess() {
+		// given
+		var inbox = List.of(post(2L, 3L, 1), post(1L, 2L, 2));
+		var celebrity = List.of(post(2L, 3L, 1));
+
+		// when
+		var merged = TimelineService.merge(List.of(inbox, celebrity), 10);
+
+		// then
+		assertThat(merged).extracting(PostResponse::postId).containsExactly(2L, 1L);
+	}
+
+	@Test
+	@DisplayName("[Success] Hybrid 홈 타임라인 조회 서비스 테스트")
+	void getTimelineHybridServiceTestSuccess() {
+		// given
+		var size = 2;
+		var celebrityId = 3L;
+
+		// mocking
+		when(timelineEntityRepository.findTimeline(AUTHORIZED_USER.getUserId(), Limit.of(size + 1)))
+			.thenReturn(List.of(post(5L, AUTHORIZED_USER.getUserId(), 2), post(1L, AUTHORIZED_USER.getUserId(), 10)));
+		when(followEntityRepository.findHighFollowerFollowingIds(AUTHORIZED_USER.getUserId(), HIGH_FOLLOWER_THRESHOLD))
+			.thenReturn(List.of(celebrityId));
+		when(recentPostCache.get(celebrityId)).thenReturn(List.of(post(6L, celebrityId, 1), post(4L, celebrityId, 5)));
+
+		// when
+		var page = timelineService.getTimeline(null, size, AUTHORIZED_USER);
+
+		// then
+		assertThat(page.items()).extracting(PostResponse::postId).containsExactly(6L, 5L);
+		assertThat(page.next()).isNotNull();
+
+		verify(timelineEntityRepository, only()).findTimeline(anyLong(), any(Limit.class));
+		verify(recentPostCache, only()).get(celebrityId);
+	}
+}
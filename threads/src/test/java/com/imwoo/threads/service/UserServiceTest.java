@@ -4,8 +4,11 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.LongStream;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -15,15 +18,23 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import com.imwoo.threads.cache.PrincipalCache;
+import com.imwoo.threads.cache.UsernameIndex;
+import com.imwoo.threads.config.properties.UserSearchProperties;
 import com.imwoo.threads.exception.user.UserDuplicatedException;
 import com.imwoo.threads.exception.user.UserNotAllowedException;
 import com.imwoo.threads.exception.user.UserNotFoundException;
 import com.imwoo.threads.model.entity.UserEntity;
+import com.imwoo.threads.model.page.CursorPageResponse;
+import com.imwoo.threads.model.user.CachedUserPrincipal;
 import com.imwoo.threads.model.user.User;
+import com.imwoo.threads.model.user.UserCursor;
 import com.imwoo.threads.model.user.request.UserUpdateRequest;
 import com.imwoo.threads.repository.UserEntityRepository;
+import com.imwoo.threads.repository.UserSearchRepository;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,14 +42,31 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 class UserServiceTest {
 
+	private final static User USER = new User(1L, "admin", null, null, ZonedDateTime.now(), ZonedDateTime.now());
+
 	@InjectMocks
 	private UserService userService;
 	@Mock
 	private JwtService jwtService;
 	@Mock
-	private BCryptPasswordEncoder passwordEncoder;
+	private PasswordHashingService passwordHashingService;
 	@Mock
 	private UserEntityRepository userEntityRepository;
+	@Mock
+	private UserSearchRepository userSearchRepository;
+	@Mock
+	private PrincipalCache principalCache;
+	@Mock
+	private UsernameIndex usernameIndex;
+	@Mock
+	private UserSearchProperties userSearchProperties;
+
+	// 캐시 미스 : loader 를 그대로 호출
+	@SuppressWarnings("unchecked")
+	private void mockPrincipalCacheMiss() {
+		Mockito.when(principalCache.get(anyString(), any())).then(invocationOnMock ->
+			((Function<String, CachedUserPrincipal>)invocationOnMock.getArgument(1)).apply(invocationOnMock.getArgument(0)));
+	}
 
 	@Test
 	@DisplayName("[Success] User 조회 서비스 테스트")
@@ -47,6 +75,7 @@ class UserServiceTest {
 		var username = "admin";
 
 		// mocking
+		mockPrincipalCacheMiss();
 		Mockito.when(userEntityRepository.findByUsername(anyString())).thenReturn(Optional.of(new UserEntity()));
 
 		// when
@@ -69,6 +98,7 @@ class UserServiceTest {
 		var username = "admin";
 
 		// mocking
+		mockPrincipalCacheMiss();
 		Mockito.when(userEntityRepository.findByUsername(anyString())).thenThrow(new UserNotFoundException(username));
 
 		// when
@@ -84,13 +114,32 @@ class UserServiceTest {
 		verifyNoMoreInteractions(userEntityRepository);
 	}
 
+	@Test
+	@DisplayName("[Success] User 조회 Principal 캐시 hit 서비스 테스트")
+	void loadUserByUsernameCachedServiceTestSuccess() {
+		// given
+		var username = "admin";
+		var cachedPrincipal = new CachedUserPrincipal(1L, username);
+
+		// mocking
+		Mockito.when(principalCache.get(anyString(), any())).thenReturn(cachedPrincipal);
+
+		// when
+		var result = userService.loadUserByUsername(username);
+
+		// then
+		Assertions.assertThat(result).isSameAs(cachedPrincipal);
+
+		verifyNoInteractions(userEntityRepository);
+	}
+
 	@Test
 	@DisplayName("[Success] 회원 가입 서비스 테스트")
 	void signUpServiceTestSuccess() {
 		// given
 		var username = "admin";
 		var password = "admin";
-		var encodePassword = passwordEncoder.encode(password);
+		var encodePassword = passwordHashingService.encode(password);
 
 		// mocking
 		when(userEntityRepository.findByUsername(anyString())).thenReturn(Optional.empty());
@@ -149,7 +198,7 @@ class UserServiceTest {
 
 		// mocking
 		when(userEntityRepository.findByUsername(anyString())).thenReturn(findUserEntity);
-		when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+		when(passwordHashingService.matches(anyString(), anyString())).thenReturn(true);
 		when(jwtService.generateAccessToken(findUserEntity.get())).thenReturn("access_token");
 
 		// when
@@ -158,12 +207,38 @@ class UserServiceTest {
 		// then
 		verify(userEntityRepository, times(1)).findByUsername(anyString());
 		verify(userEntityRepository, timeout(3000)).findByUsername(anyString());
-		verify(passwordEncoder, times(1)).matches(anyString(), anyString());
+		verify(passwordHashingService, times(1)).matches(anyString(), anyString());
 		verify(jwtService, times(1)).generateAccessToken(any());
 
 		verifyNoMoreInteractions(userEntityRepository);
 	}
 
+	@Test
+	@DisplayName("[Success] 회원 인증 서비스 cost factor 변경 재해싱 테스트")
+	void authenticateServiceRehashTestSuccess() {
+		// given
+		var username = "admin";
+		var password = "admin";
+		var userEntity = new UserEntity(1L, username, "$2a$04$previousCostHash", null, null, ZonedDateTime.now(),
+			ZonedDateTime.now(), null);
+
+		// mocking
+		when(userEntityRepository.findByUsername(anyString())).thenReturn(Optional.of(userEntity));
+		when(passwordHashingService.matches(anyString(), anyString())).thenReturn(true);
+		when(passwordHashingService.needsRehash(anyString())).thenReturn(true);
+		when(passwordHashingService.encode(password)).thenReturn("$2a$10$rehashed");
+		when(jwtService.generateAccessToken(userEntity)).thenReturn("access_token");
+
+		// when
+		userService.authenticate(username, password);
+
+		// then
+		Assertions.assertThat(userEntity.getPassword()).isEqualTo("$2a$10$rehashed");
+
+		verify(passwordHashingService, times(1)).encode(password);
+		verify(userEntityRepository, times(1)).save(userEntity);
+	}
+
 	/**
 	 * 회원 인증 서비스 실패 케이스
 	 * 1. username UserNotFoundException Error
@@ -205,7 +280,7 @@ class UserServiceTest {
 
 		// mocking
 		when(userEntityRepository.findByUsername(anyString())).thenReturn(findUserEntity);
-		when(passwordEncoder.matches(anyString(), anyString())).thenReturn(false);
+		when(passwordHashingService.matches(anyString(), anyString())).thenReturn(false);
 
 		// when
 		Assertions.assertThatThrownBy(() -> userService.authenticate(username, password))
@@ -214,7 +289,7 @@ class UserServiceTest {
 		// then
 		verify(userEntityRepository, times(1)).findByUsername(anyString());
 		verify(userEntityRepository, timeout(3000)).findByUsername(anyString());
-		verify(passwordEncoder, times(1)).matches(anyString(), anyString());
+		verify(passwordHashingService, times(1)).matches(anyString(), anyString());
 		verify(jwtService, times(0)).generateAccessToken(any());
 
 		verifyNoMoreInteractions(userEntityRepository);
@@ -227,37 +302,127 @@ class UserServiceTest {
 		// given
 
 		// mocking
-		Mockito.when(userEntityRepository.findAll()).thenReturn(List.of(new UserEntity()));
+		Mockito.when(userEntityRepository.findUsers(any(Limit.class))).thenReturn(List.of(USER));
+
+		// when
+		var page = userService.getUsers(null, null, null);
+
+		// then
+		Assertions.assertThat(page.items()).containsExactly(USER);
+		Assertions.assertThat(page.next()).isNull();
+
+		verify(userEntityRepository, times(1)).findUsers(Limit.of(CursorPageResponse.DEFAULT_SIZE + 1));
+		verify(userEntityRepository, only()).findUsers(any(Limit.class));
+		verifyNoInteractions(userSearchRepository);
+	}
+
+	@Test
+	@DisplayName("[Success] User 조회 다음 페이지 Keyset 서비스 테스트")
+	void userSearchNextPageServiceTestSuccess() {
+		// given
+		var size = 1;
+		var cursor = new UserCursor(1L).encode();
+		var next = new User(2L, "adminB", null, null, ZonedDateTime.now(), ZonedDateTime.now());
+		var more = new User(3L, "adminC", null, null, ZonedDateTime.now(), ZonedDateTime.now());
+
+		// mocking
+		Mockito.when(userEntityRepository.findUsersAfter(1L, Limit.of(size + 1))).thenReturn(List.of(next, more));
+
+		// when
+		var page = userService.getUsers(" ", cursor, size);
+
+		// then
+		Assertions.assertThat(page.items()).containsExactly(next);
+		Assertions.assertThat(UserCursor.decode(page.next()).userId()).isEqualTo(2L);
+
+		verify(userEntityRepository, only()).findUsersAfter(1L, Limit.of(size + 1));
+	}
+
+	@Test
+	@DisplayName("[Success] User 전체 스트리밍 Keyset 청크 서비스 테스트")
+	void userStreamServiceTestSuccess() {
+		// given
+		var limit = Limit.of(UserService.EXPORT_CHUNK_SIZE);
+		var firstChunk = LongStream.rangeClosed(1, UserService.EXPORT_CHUNK_SIZE)
+			.mapToObj(userId -> new User(userId, "user" + userId, null, null, ZonedDateTime.now(), ZonedDateTime.now()))
+			.toList();
+		var lastUser = new User(UserService.EXPORT_CHUNK_SIZE + 1L, "last", null, null, ZonedDateTime.now(),
+			ZonedDateTime.now());
+		var consumed = new ArrayList<User>();
+
+		// mocking
+		Mockito.when(userEntityRepository.findUsers(limit)).thenReturn(firstChunk);
+		Mockito.when(userEntityRepository.findUsersAfter((long)UserService.EXPORT_CHUNK_SIZE, limit))
+			.thenReturn(List.of(lastUser));
 
 		// when
-		userService.getUsers(null);
+		userService.streamUsers(consumed::add);
 
 		// then
-		verify(userEntityRepository, times(1)).findAll();
-		verify(userEntityRepository, only()).findAll();
-		verify(userEntityRepository, timeout(3000)).findAll();
+		Assertions.assertThat(consumed).hasSize(UserService.EXPORT_CHUNK_SIZE + 1);
+		Assertions.assertThat(consumed.getLast()).isEqualTo(lastUser);
 
+		// 마지막 청크가 청크 크기보다 작으면 추가 조회 없이 종료
+		verify(userEntityRepository, times(1)).findUsers(limit);
+		verify(userEntityRepository, times(1)).findUsersAfter((long)UserService.EXPORT_CHUNK_SIZE, limit);
 		verifyNoMoreInteractions(userEntityRepository);
 	}
 
 	@Test
-	@DisplayName("[Success] User 조회 Like 서비스 테스트")
+	@DisplayName("[Success] User 조회 Trigram 검색 서비스 테스트")
 	void userSearchQueryExistsServiceTestSuccess() {
+		// given
+		var query = "adm";
+
+		// mocking
+		Mockito.when(userSearchRepository.searchByUsername(anyString())).thenReturn(List.of(USER));
+
+		// when
+		var users = userService.getUsers(query, null, null);
+
+		// then
+		Assertions.assertThat(users.items()).containsExactly(USER);
+		Assertions.assertThat(users.next()).isNull();
+
+		verify(userSearchRepository, only()).searchByUsername(query);
+		verifyNoInteractions(userEntityRepository);
+	}
+
+	@Test
+	@DisplayName("[Success] User 조회 trigram 길이 미만 검색어 빈 결과 서비스 테스트")
+	void userSearchShortQueryServiceTestSuccess() {
 		// given
 		var query = "a";
 
 		// mocking
-		Mockito.when(userEntityRepository.findByUsernameContaining(anyString())).thenReturn(List.of(new UserEntity()));
 
 		// when
-		userService.getUsers(query);
+		var users = userService.getUsers(query, null, null);
 
 		// then
-		verify(userEntityRepository, times(1)).findByUsernameContaining(anyString());
-		verify(userEntityRepository, only()).findByUsernameContaining(anyString());
-		verify(userEntityRepository, timeout(3000)).findByUsernameContaining(anyString());
+		Assertions.assertThat(users.items()).isEmpty();
 
-		verifyNoMoreInteractions(userEntityRepository);
+		verifyNoInteractions(userSearchRepository);
+		verifyNoInteractions(userEntityRepository);
+	}
+
+	@Test
+	@DisplayName("[Success] User 자동완성 서비스 테스트")
+	void autocompleteServiceTestSuccess() {
+		// given
+		var prefix = "ad";
+
+		// mocking
+		when(userSearchProperties.autocompleteMaxResults()).thenReturn(10);
+		when(usernameIndex.autocomplete(prefix, 10)).thenReturn(List.of("admin", "adminB"));
+
+		// when
+		var usernames = userService.autocomplete(prefix);
+
+		// then
+		Assertions.assertThat(usernames).containsExactly("admin", "adminB");
+
+		verifyNoInteractions(userEntityRepository);
 	}
 
 	@Test
@@ -267,17 +432,16 @@ class UserServiceTest {
 		var username = "admin";
 
 		// mocking
-		Mockito.when(userEntityRepository.findByUsername(anyString()))
-			.thenReturn(Optional.of(
-				new UserEntity(1L, username, "admin", null, null, ZonedDateTime.now(), ZonedDateTime.now(), null)));
+		Mockito.when(userEntityRepository.findUserByUsername(anyString()))
+			.thenReturn(Optional.of(USER));
 
 		// when
 		userService.getUser(username);
 
 		// then
-		verify(userEntityRepository, times(1)).findByUsername(anyString());
-		verify(userEntityRepository, only()).findByUsername(anyString());
-		verify(userEntityRepository, timeout(3000)).findByUsername(anyString());
+		verify(userEntityRepository, times(1)).findUserByUsername(anyString());
+		verify(userEntityRepository, only()).findUserByUsername(anyString());
+		verify(userEntityRepository, timeout(3000)).findUserByUsername(anyString());
 
 		verifyNoMoreInteractions(userEntityRepository);
 	}
@@ -289,7 +453,7 @@ class UserServiceTest {
 		var username = "admin";
 
 		// mocking
-		Mockito.when(userEntityRepository.findByUsername(anyString()))
+		Mockito.when(userEntityRepository.findUserByUsername(anyString()))
 			.thenReturn(Optional.empty());
 
 		// when
@@ -297,9 +461,9 @@ class UserServiceTest {
 			.isInstanceOf(UserNotFoundException.class);
 
 		// then
-		verify(userEntityRepository, times(1)).findByUsername(anyString());
-		verify(userEntityRepository, only()).findByUsername(anyString());
-		verify(userEntityRepository, timeout(3000)).findByUsername(anyString());
+		verify(userEntityRepository, times(1)).findUserByUsername(anyString());
+		verify(userEntityRepository, only()).findUserByUsername(anyString());
+		verify(userEntityRepository, timeout(3000)).findUserByUsername(anyString());
 
 		verifyNoMoreInteractions(userEntityRepository);
 	}
@@ -331,6 +495,7 @@ class UserServiceTest {
 		verify(userEntityRepository, timeout(3000)).save(any());
 
 		verifyNoMoreInteractions(userEntityRepository);
+		verifyNoInteractions(principalCache);
 	}
 
 	@Test